@@ -13,8 +13,67 @@ public class Solution {
 
     public static final int NO_SOLUTION = 0;
     public static final int SUDOKU_SIZE = 9;
+    public static final int CELL_COUNT = SUDOKU_SIZE * SUDOKU_SIZE;
+    public static final int MAX_SUDOKU_SIZE = 64;
 
     private int[][] digits;
+    private float[][][] probabilities;
+
+    public Solution(int[][] digits) {
+        this.digits = digits;
+    }
+
+    public static int boxSizeOf(int size) {
+        int boxSize = (int) Math.round(Math.sqrt(size));
+        return size > 0 && size <= MAX_SUDOKU_SIZE && boxSize * boxSize == size ? boxSize : 0;
+    }
+
+    public static Solution fromCells(byte[] cells) {
+        int[][] digits = new int[SUDOKU_SIZE][SUDOKU_SIZE];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            digits[cell / SUDOKU_SIZE][cell % SUDOKU_SIZE] = cells[cell];
+        }
+        return new Solution(digits);
+    }
+
+    public byte[] toCells() {
+        if (!this.isFullGrid()) {
+            return null;
+        }
+        byte[] cells = new byte[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            cells[cell] = (byte) this.digits[cell / SUDOKU_SIZE][cell % SUDOKU_SIZE];
+        }
+        return cells;
+    }
+
+    public int getSize() {
+        return this.digits == null ? 0 : this.digits.length;
+    }
+
+    public int getBoxSize() {
+        return boxSizeOf(this.getSize());
+    }
+
+    public int getCell(int row, int column) {
+        return this.digits[row][column];
+    }
+
+    public boolean isFullGrid() {
+        if (this.digits == null || this.digits.length != SUDOKU_SIZE) {
+            return false;
+        }
+        for (int[] row : this.digits) {
+            if (row == null || row.length != SUDOKU_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasProbabilities() {
+        return this.probabilities != null && this.probabilities.length == SUDOKU_SIZE;
+    }
 
     public boolean isSudokuSolution() {
         if (this.digits == null) {
@@ -37,7 +96,7 @@ public class Solution {
         for (int[] digit : digits) {
             for (int i = 0; i < digits[0].length; i++) {
                 if (digit[i] <= NO_SOLUTION ||
-                        digit[i] > SUDOKU_SIZE) {
+                        digit[i] > digits.length) {
                     return false;
                 }
             }
@@ -0,0 +1,337 @@
+package messaging.codec;
+
+import messaging.Solution;
+import messaging.TelegramInfo;
+import messaging.solution.SolutionDifficulty;
+import messaging.solution.SolutionUniqueness;
+import messaging.solution.SolutionsInfo;
+import messaging.solution.SolutionsOneInfo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class SolutionCodec {
+
+    public static final byte MAGIC = 0;
+    public static final byte VERSION = 2;
+    // Frames written before the difficulty field was added; still produced during a rolling deploy.
+    public static final byte VERSION_WITHOUT_DIFFICULTY = 1;
+
+    private static final byte SOLUTIONS_INFO = 1;
+    private static final byte SOLUTIONS_ONE_INFO = 2;
+
+    private static final int HAS_DIGITS = 1;
+    private static final int HAS_PROBABILITIES = 1 << 1;
+    private static final int HAS_SIZED_DIGITS = 1 << 2;
+    private static final int PACKED_SIZE = (Solution.CELL_COUNT + 1) / 2;
+    private static final float QUANTIZATION = 255f;
+    private static final int NULL = -1;
+    private static final SolutionUniqueness[] UNIQUENESS = SolutionUniqueness.values();
+    private static final SolutionDifficulty[] DIFFICULTY = SolutionDifficulty.values();
+
+    private SolutionCodec() {
+    }
+
+    public static boolean supports(Object data) {
+        return data instanceof SolutionsInfo || data instanceof SolutionsOneInfo;
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length > 2 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(MAGIC);
+            output.writeByte(VERSION);
+            if (data instanceof SolutionsInfo solutionsInfo) {
+                output.writeByte(SOLUTIONS_INFO);
+                writeSolutionsInfo(output, solutionsInfo);
+            } else if (data instanceof SolutionsOneInfo solutionsOneInfo) {
+                output.writeByte(SOLUTIONS_ONE_INFO);
+                writeSolutionsOneInfo(output, solutionsOneInfo);
+            } else {
+                throw new IllegalArgumentException("Unsupported message type: " + data.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (input.readByte() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary solution message");
+            }
+            byte version = input.readByte();
+            if (version != VERSION && version != VERSION_WITHOUT_DIFFICULTY) {
+                throw new IllegalArgumentException("Unsupported solution message version: " + version);
+            }
+            byte type = input.readByte();
+            return switch (type) {
+                case SOLUTIONS_INFO -> readSolutionsInfo(input);
+                case SOLUTIONS_ONE_INFO -> readSolutionsOneInfo(input, version);
+                default -> throw new IllegalArgumentException("Unknown solution message type: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSolutionsInfo(DataOutputStream output, SolutionsInfo info) throws IOException {
+        Set<Solution> solutions = info.getSolutions();
+        output.writeInt(solutions == null ? NULL : solutions.size());
+        if (solutions != null) {
+            for (Solution solution : solutions) {
+                writeSolution(output, solution);
+            }
+        }
+        writeInteger(output, info.getCountSolutions());
+        writeTelegramInfo(output, info.getTelegramInfo());
+    }
+
+    private static SolutionsInfo readSolutionsInfo(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        Set<Solution> solutions = null;
+        if (size != NULL) {
+            solutions = new LinkedHashSet<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                solutions.add(readSolution(input));
+            }
+        }
+        return SolutionsInfo.builder()
+                .solutions(solutions)
+                .countSolutions(readInteger(input))
+                .telegramInfo(readTelegramInfo(input))
+                .build();
+    }
+
+    private static void writeSolutionsOneInfo(DataOutputStream output, SolutionsOneInfo info) throws IOException {
+        output.writeBoolean(info.getSolution() != null);
+        if (info.getSolution() != null) {
+            writeSolution(output, info.getSolution());
+        }
+        writeInteger(output, info.getSolutionId());
+        writeInteger(output, info.getCountSolution());
+        output.writeByte(info.getUniqueness() == null ? NULL : info.getUniqueness().ordinal());
+        writeInteger(output, info.getRepairedCells());
+        output.writeByte(info.getDifficulty() == null ? NULL : info.getDifficulty().ordinal());
+        writeTelegramInfo(output, info.getTelegramInfo());
+    }
+
+    private static SolutionsOneInfo readSolutionsOneInfo(DataInputStream input, byte version) throws IOException {
+        Solution solution = input.readBoolean() ? readSolution(input) : null;
+        Integer solutionId = readInteger(input);
+        Integer countSolution = readInteger(input);
+        byte uniqueness = input.readByte();
+        Integer repairedCells = readInteger(input);
+        byte difficulty = version == VERSION_WITHOUT_DIFFICULTY ? NULL : input.readByte();
+        return SolutionsOneInfo.builder()
+                .solution(solution)
+                .solutionId(solutionId)
+                .countSolution(countSolution)
+                .uniqueness(uniqueness == NULL ? null : UNIQUENESS[uniqueness])
+                .repairedCells(repairedCells)
+                .difficulty(difficulty == NULL ? null : DIFFICULTY[difficulty])
+                .telegramInfo(readTelegramInfo(input))
+                .build();
+    }
+
+    private static void writeSolution(DataOutputStream output, Solution solution) throws IOException {
+        if (!solution.isFullGrid() && isSquareGrid(solution)) {
+            writeSizedSolution(output, solution);
+            return;
+        }
+        boolean fullGrid = solution.isFullGrid();
+        int classes = fullGrid && solution.hasProbabilities() ? classCount(solution.getProbabilities()) : 0;
+        output.writeByte((fullGrid ? HAS_DIGITS : 0) | (classes > 0 ? HAS_PROBABILITIES : 0));
+
+        if (fullGrid) {
+            byte[] packed = new byte[PACKED_SIZE];
+            for (int cell = 0; cell < Solution.CELL_COUNT; cell++) {
+                int value = solution.getCell(cell / Solution.SUDOKU_SIZE, cell % Solution.SUDOKU_SIZE);
+                if (value < Solution.NO_SOLUTION || value > Solution.SUDOKU_SIZE) {
+                    throw new IllegalArgumentException("Cell value out of range: " + value);
+                }
+                packed[cell >> 1] |= (byte) (value << ((cell & 1) << 2));
+            }
+            output.write(packed);
+        }
+
+        if (classes > 0) {
+            output.writeByte(classes);
+            byte[] quantized = new byte[Solution.CELL_COUNT * classes];
+            float[][][] probabilities = solution.getProbabilities();
+            for (int cell = 0; cell < Solution.CELL_COUNT; cell++) {
+                float[] vector = probabilities[cell / Solution.SUDOKU_SIZE][cell % Solution.SUDOKU_SIZE];
+                for (int k = 0; k < classes; k++) {
+                    float probability = Math.min(1f, Math.max(0f, vector[k]));
+                    quantized[cell * classes + k] = (byte) Math.round(probability * QUANTIZATION);
+                }
+            }
+            output.write(quantized);
+        }
+    }
+
+    private static Solution readSolution(DataInputStream input) throws IOException {
+        int flags = input.readUnsignedByte();
+        if ((flags & HAS_SIZED_DIGITS) != 0) {
+            return readSizedSolution(input);
+        }
+        if ((flags & HAS_DIGITS) == 0) {
+            return new Solution();
+        }
+
+        byte[] packed = new byte[PACKED_SIZE];
+        input.readFully(packed);
+        byte[] cells = new byte[Solution.CELL_COUNT];
+        for (int cell = 0; cell < Solution.CELL_COUNT; cell++) {
+            cells[cell] = (byte) ((packed[cell >> 1] >> ((cell & 1) << 2)) & 0x0F);
+        }
+        Solution solution = Solution.fromCells(cells);
+
+        if ((flags & HAS_PROBABILITIES) != 0) {
+            int classes = input.readUnsignedByte();
+            byte[] quantized = new byte[Solution.CELL_COUNT * classes];
+            input.readFully(quantized);
+            float[][][] probabilities = new float[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE][classes];
+            for (int cell = 0; cell < Solution.CELL_COUNT; cell++) {
+                float[] vector = probabilities[cell / Solution.SUDOKU_SIZE][cell % Solution.SUDOKU_SIZE];
+                for (int k = 0; k < classes; k++) {
+                    vector[k] = (quantized[cell * classes + k] & 0xFF) / QUANTIZATION;
+                }
+            }
+            solution.setProbabilities(probabilities);
+        }
+        return solution;
+    }
+
+    private static void writeSizedSolution(DataOutputStream output, Solution solution) throws IOException {
+        int size = solution.getSize();
+        output.writeByte(HAS_SIZED_DIGITS);
+        output.writeByte(size);
+        for (int[] row : solution.getDigits()) {
+            for (int value : row) {
+                if (value < Solution.NO_SOLUTION || value > size) {
+                    throw new IllegalArgumentException("Cell value out of range: " + value);
+                }
+                output.writeByte(value);
+            }
+        }
+    }
+
+    private static Solution readSizedSolution(DataInputStream input) throws IOException {
+        int size = input.readUnsignedByte();
+        int[][] digits = new int[size][size];
+        for (int[] row : digits) {
+            for (int column = 0; column < size; column++) {
+                row[column] = input.readUnsignedByte();
+            }
+        }
+        return new Solution(digits);
+    }
+
+    private static boolean isSquareGrid(Solution solution) {
+        if (solution.getBoxSize() == 0) {
+            return false;
+        }
+        for (int[] row : solution.getDigits()) {
+            if (row == null || row.length != solution.getSize()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int classCount(float[][][] probabilities) {
+        int classes = NULL;
+        for (float[][] row : probabilities) {
+            if (row == null || row.length != Solution.SUDOKU_SIZE) {
+                return 0;
+            }
+            for (float[] vector : row) {
+                if (vector == null || (classes != NULL && vector.length != classes)) {
+                    return 0;
+                }
+                classes = vector.length;
+            }
+        }
+        return classes > 0 && classes <= 0xFF ? classes : 0;
+    }
+
+    private static void writeTelegramInfo(DataOutputStream output, TelegramInfo info) throws IOException {
+        output.writeBoolean(info != null);
+        if (info == null) {
+            return;
+        }
+        writeLong(output, info.getUserId());
+        writeLong(output, info.getMessageId());
+        writeLong(output, info.getChartId());
+        writeString(output, info.getUsername());
+        writeString(output, info.getInfo());
+    }
+
+    private static TelegramInfo readTelegramInfo(DataInputStream input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        return TelegramInfo.builder()
+                .userId(readLong(input))
+                .messageId(readLong(input))
+                .chartId(readLong(input))
+                .username(readString(input))
+                .info(readString(input))
+                .build();
+    }
+
+    private static void writeInteger(DataOutputStream output, Integer value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readInt() : null;
+    }
+
+    private static void writeLong(DataOutputStream output, Long value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readLong() : null;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == NULL) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
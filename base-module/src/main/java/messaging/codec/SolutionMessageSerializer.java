@@ -0,0 +1,38 @@
+package messaging.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+public class SolutionMessageSerializer implements Serializer<Object> {
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        this.jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (SolutionCodec.supports(data)) {
+            return SolutionCodec.encode(data);
+        }
+        return this.jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (SolutionCodec.supports(data)) {
+            return SolutionCodec.encode(data);
+        }
+        return this.jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        this.jsonSerializer.close();
+    }
+}
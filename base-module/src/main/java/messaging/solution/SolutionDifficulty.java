@@ -0,0 +1,10 @@
+package messaging.solution;
+
+public enum SolutionDifficulty {
+    EASY,
+    MEDIUM,
+    HARD,
+    EXPERT,
+    EXTREME,
+    UNKNOWN
+}
@@ -0,0 +1,8 @@
+package messaging.solution;
+
+public enum SolutionUniqueness {
+    UNIQUE,
+    MULTIPLE,
+    NONE,
+    UNKNOWN
+}
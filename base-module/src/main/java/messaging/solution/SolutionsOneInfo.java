@@ -16,5 +16,8 @@ public class SolutionsOneInfo {
     private Solution solution;
     private Integer solutionId;
     private Integer countSolution;
+    private SolutionUniqueness uniqueness;
+    private Integer repairedCells;
+    private SolutionDifficulty difficulty;
     private TelegramInfo telegramInfo;
 }
@@ -0,0 +1,137 @@
+package messaging.codec;
+
+import messaging.Solution;
+import messaging.TelegramInfo;
+import messaging.image.ImagesInfo;
+import messaging.solution.SolutionDifficulty;
+import messaging.solution.SolutionUniqueness;
+import messaging.solution.SolutionsInfo;
+import messaging.solution.SolutionsOneInfo;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolutionCodecTest {
+
+    private static final String TOPIC = "solutions";
+    private static final String GRID =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+
+    private final TelegramInfo telegramInfo = TelegramInfo.builder()
+            .userId(42L)
+            .chartId(7L)
+            .username("solver")
+            .info("Привет")
+            .build();
+
+    @Test
+    void roundTripsSolutionsOneInfo() {
+        SolutionsOneInfo info = SolutionsOneInfo.builder()
+                .solution(new Solution(grid()))
+                .solutionId(0)
+                .countSolution(1)
+                .uniqueness(SolutionUniqueness.UNIQUE)
+                .difficulty(SolutionDifficulty.HARD)
+                .telegramInfo(this.telegramInfo)
+                .build();
+
+        byte[] encoded = SolutionCodec.encode(info);
+
+        assertEquals(info, SolutionCodec.decode(encoded));
+        assertTrue(encoded.length * 4 < new JsonSerializer<>().serialize(TOPIC, info).length);
+    }
+
+    @Test
+    void roundTripsQuantizedProbabilities() {
+        float[][][] probabilities = new float[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE + 1];
+        int[][] digits = grid();
+        for (int i = 0; i < Solution.SUDOKU_SIZE; i++) {
+            for (int j = 0; j < Solution.SUDOKU_SIZE; j++) {
+                probabilities[i][j][digits[i][j]] = 0.8f;
+                probabilities[i][j][0] = 0.2f;
+            }
+        }
+        SolutionsInfo info = SolutionsInfo.builder()
+                .solutions(Set.of(new Solution(digits, probabilities), new Solution()))
+                .countSolutions(2)
+                .build();
+
+        SolutionsInfo decoded = (SolutionsInfo) SolutionCodec.decode(SolutionCodec.encode(info));
+
+        assertEquals(2, decoded.getSolutions().size());
+        assertNull(decoded.getTelegramInfo());
+        Solution solution = decoded.getSolutions().stream().filter(Solution::hasProbabilities).findFirst().orElseThrow();
+        assertArrayEquals(digits, solution.getDigits());
+        assertEquals(0.8f, solution.getProbabilities()[4][4][digits[4][4]], 1f / 255);
+        assertEquals(0.2f, solution.getProbabilities()[4][4][0], 1f / 255);
+    }
+
+    @Test
+    void roundTripsLargerGrids() {
+        int[][] digits = new int[16][16];
+        digits[0][0] = 16;
+        digits[15][15] = 1;
+        SolutionsOneInfo info = SolutionsOneInfo.builder().solution(new Solution(digits)).build();
+
+        SolutionsOneInfo decoded = (SolutionsOneInfo) SolutionCodec.decode(SolutionCodec.encode(info));
+
+        assertArrayEquals(digits, decoded.getSolution().getDigits());
+    }
+
+    @Test
+    void decodesFramesWithoutDifficulty() {
+        SolutionsOneInfo info = SolutionsOneInfo.builder()
+                .solution(new Solution(grid()))
+                .solutionId(3)
+                .countSolution(1)
+                .uniqueness(SolutionUniqueness.UNIQUE)
+                .repairedCells(2)
+                .build();
+        byte[] current = SolutionCodec.encode(info);
+
+        // A v1 frame is the same layout minus the difficulty byte that precedes the telegram-info flag.
+        byte[] legacy = new byte[current.length - 1];
+        System.arraycopy(current, 0, legacy, 0, current.length - 2);
+        legacy[legacy.length - 1] = current[current.length - 1];
+        legacy[1] = SolutionCodec.VERSION_WITHOUT_DIFFICULTY;
+
+        SolutionsOneInfo decoded = (SolutionsOneInfo) SolutionCodec.decode(legacy);
+
+        assertEquals(info, decoded);
+        assertNull(decoded.getDifficulty());
+    }
+
+    @Test
+    void fallsBackToJsonForOtherMessages() {
+        SolutionMessageSerializer serializer = new SolutionMessageSerializer();
+        SolutionMessageDeserializer deserializer = new SolutionMessageDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        ImagesInfo info = ImagesInfo.builder()
+                .imagesPaths(Set.of("images/1.jpg"))
+                .countImages(1)
+                .telegramInfo(this.telegramInfo)
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize(TOPIC, headers, info);
+
+        assertEquals(info, deserializer.deserialize(TOPIC, headers, data));
+    }
+
+    private static int[][] grid() {
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < GRID.length(); i++) {
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] = GRID.charAt(i) - '0';
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,77 @@
+package luka.teum.benchmarks;
+
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.bulk.BoardSlab;
+import luka.teum.solution_service.solver.bulk.BulkSudokuSolver;
+import luka.teum.solution_service.solver.bulk.CandidateKernel;
+import luka.teum.solution_service.solver.bulk.CandidateKernels;
+import luka.teum.solution_service.solver.bulk.ScalarCandidateKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CandidateKernelBenchmark {
+
+    private static final int SLAB_SIZE = 1024;
+
+    @Param({"false", "true"})
+    private boolean vectorized;
+
+    @Param({"EASY", "HARD"})
+    private Corpus corpus;
+
+    private BulkSudokuSolver bulkSolver;
+    private BoardSlab slab;
+    private short[] givens;
+
+    @Setup
+    public void setUp() {
+        CandidateKernel kernel = CandidateKernels.create(this.vectorized);
+        if (this.vectorized == kernel instanceof ScalarCandidateKernel) {
+            throw new IllegalStateException("Expected vectorized=" + this.vectorized + " but got " + kernel.getClass());
+        }
+        this.bulkSolver = new BulkSudokuSolver(kernel, new BitmaskSudokuSolver(), SLAB_SIZE);
+        this.slab = new BoardSlab(SLAB_SIZE);
+        List<int[][]> puzzles = this.corpus.load();
+        for (int i = 0; i < SLAB_SIZE; i++) {
+            this.slab.add(puzzles.get(i % puzzles.size()));
+        }
+        this.givens = this.slab.getValues().clone();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(SLAB_SIZE)
+    public BoardSlab candidates() {
+        System.arraycopy(this.givens, 0, this.slab.getValues(), 0, this.givens.length);
+        this.bulkSolver.getKernel().computeCandidates(this.slab);
+        return this.slab;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(SLAB_SIZE)
+    public BoardSlab presolve() {
+        System.arraycopy(this.givens, 0, this.slab.getValues(), 0, this.givens.length);
+        this.bulkSolver.presolve(this.slab);
+        return this.slab;
+    }
+}
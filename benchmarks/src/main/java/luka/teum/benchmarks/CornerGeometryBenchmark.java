@@ -0,0 +1,98 @@
+package luka.teum.benchmarks;
+
+import luka.teum.image_service.data.PointBuffer;
+import luka.teum.image_service.data.RightTriangle;
+import luka.teum.image_service.data.TriangleBuffer;
+import luka.teum.image_service.util.GeometryScratch;
+import luka.teum.image_service.util.RightTriangleSearch;
+import org.opencv.core.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CornerGeometryBenchmark {
+
+    private static final int GRID_LINES = 10;
+    private static final double GRID_STEP = 50;
+    private static final double MIN_S = 1000;
+    private static final double MIN_S_V2 = 80000;
+
+    @Param({"200", "500", "2000"})
+    private int corners;
+
+    private final RightTriangleSearch search = new RightTriangleSearch();
+    private Point[] points;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Point> generated = new ArrayList<>();
+        for (int row = 0; row < GRID_LINES; row++) {
+            for (int column = 0; column < GRID_LINES; column++) {
+                generated.add(new Point(Math.round(20 + column * GRID_STEP + random.nextInt(3) - 1),
+                        Math.round(20 + row * GRID_STEP + random.nextInt(3) - 1)));
+            }
+        }
+        double extent = 40 + (GRID_LINES - 1) * GRID_STEP;
+        while (generated.size() < this.corners) {
+            generated.add(new Point(random.nextInt((int) extent), random.nextInt((int) extent)));
+        }
+        Collections.shuffle(generated, random);
+        this.points = generated.subList(0, this.corners).toArray(new Point[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Point[] objects() {
+        List<RightTriangle> rightTriangles = this.search.outerRightTriangle(this.points, Double.MAX_VALUE, MIN_S);
+        Set<Point> unique = new HashSet<>(rightTriangles.size() * 3);
+        for (RightTriangle triangle : rightTriangles) {
+            unique.add(triangle.getP1());
+            unique.add(triangle.getP2());
+            unique.add(triangle.getP3());
+        }
+        rightTriangles = this.search.outerRightTriangle(unique.toArray(new Point[0]), Double.MAX_VALUE, MIN_S_V2);
+        RightTriangle max = null;
+        for (RightTriangle triangle : rightTriangles) {
+            if (max == null || triangle.getArea() > max.getArea()) {
+                max = triangle;
+            }
+        }
+        return max == null ? new Point[0] : max.toPoints();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Point[] buffers() {
+        GeometryScratch scratch = GeometryScratch.acquire();
+        PointBuffer corners = scratch.getCorners().load(this.points);
+        TriangleBuffer triangles = scratch.getTriangles();
+        this.search.search(scratch, corners, Double.MAX_VALUE, MIN_S, triangles);
+        PointBuffer vertices = triangles.collectVertices(corners, scratch.getVertices(), scratch.marks(corners.size()));
+        this.search.search(scratch, vertices, Double.MAX_VALUE, MIN_S_V2, triangles);
+        int max = triangles.maxArea();
+        return max < 0 ? new Point[0] : triangles.toPoints(max, vertices);
+    }
+}
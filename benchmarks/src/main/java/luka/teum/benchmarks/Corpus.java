@@ -0,0 +1,69 @@
+package luka.teum.benchmarks;
+
+import messaging.Solution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public enum Corpus {
+    EASY("easy"),
+    HARD("hard"),
+    SEVENTEEN("seventeen"),
+    CONTRADICTION("contradiction");
+
+    private static final int CELL_COUNT = Solution.SUDOKU_SIZE * Solution.SUDOKU_SIZE;
+
+    private final String name;
+
+    Corpus(String name) {
+        this.name = name;
+    }
+
+    public List<int[][]> load() {
+        String path = "/corpus/" + this.name + ".txt";
+        InputStream stream = Corpus.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new IllegalStateException("Corpus not found: " + path);
+        }
+        List<int[][]> puzzles = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    puzzles.add(parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read corpus: " + path, e);
+        }
+        return puzzles;
+    }
+
+    public static int[][] copyOf(int[][] puzzle) {
+        int[][] copy = new int[puzzle.length][];
+        for (int i = 0; i < puzzle.length; i++) {
+            copy[i] = puzzle[i].clone();
+        }
+        return copy;
+    }
+
+    private static int[][] parse(String line) {
+        if (line.length() != CELL_COUNT) {
+            throw new IllegalStateException("Puzzle must have " + CELL_COUNT + " cells: " + line);
+        }
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            char symbol = line.charAt(i);
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] =
+                    Character.isDigit(symbol) ? symbol - '0' : Solution.NO_SOLUTION;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,59 @@
+package luka.teum.benchmarks;
+
+import luka.teum.solution_service.solver.DifficultyGrade;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GradingBenchmark {
+
+    @Param
+    private Corpus corpus;
+
+    private DifficultyGrader grader;
+    private List<int[][]> puzzles;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.grader = new DifficultyGrader();
+        this.puzzles = this.corpus.load();
+        this.index = 0;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public DifficultyGrade throughput() {
+        return this.gradeNext();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DifficultyGrade latency() {
+        return this.gradeNext();
+    }
+
+    private DifficultyGrade gradeNext() {
+        int[][] puzzle = this.puzzles.get(this.index);
+        this.index = (this.index + 1) % this.puzzles.size();
+        return this.grader.grade(puzzle);
+    }
+}
@@ -0,0 +1,89 @@
+package luka.teum.benchmarks;
+
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolverType;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SolverBenchmark {
+
+    private static final long MAX_NODES = 1_000_000;
+
+    @Param
+    private SolverType solverType;
+
+    @Param
+    private Corpus corpus;
+
+    @Param({"UNIQUE"})
+    private SolveMode mode;
+
+    private SudokuSolver solver;
+    private SolveBudget budget;
+    private List<int[][]> puzzles;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.solver = this.solverType.create();
+        this.budget = new SolveBudget(MAX_NODES, SolveBudget.NO_LIMIT);
+        this.puzzles = this.corpus.load();
+        this.index = 0;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public SolveResult throughput(NodeCounter counter) {
+        SolveResult result = this.solveNext();
+        counter.nodes += result.getNodes();
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SolveResult latency() {
+        return this.solveNext();
+    }
+
+    private SolveResult solveNext() {
+        int[][] puzzle = this.puzzles.get(this.index);
+        this.index = (this.index + 1) % this.puzzles.size();
+        return this.solver.trySolve(new Solution(Corpus.copyOf(puzzle)), this.budget, this.mode);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class NodeCounter {
+
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.nodes = 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package luka.teum.benchmarks;
+
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CorpusTest {
+
+    private static final int MINIMAL_CLUES = 17;
+
+    private final SudokuSolver solver = new BitmaskSudokuSolver();
+
+    @ParameterizedTest
+    @EnumSource(value = Corpus.class, names = {"EASY", "HARD", "SEVENTEEN"})
+    void solvablePuzzlesHaveUniqueSolutions(Corpus corpus) {
+        for (int[][] puzzle : corpus.load()) {
+            SolveResult result = this.solver.trySolve(new Solution(Corpus.copyOf(puzzle)),
+                    SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+            assertEquals(SolutionUniqueness.UNIQUE, result.getUniqueness());
+        }
+    }
+
+    @Test
+    void minimalPuzzlesHaveSeventeenClues() {
+        for (int[][] puzzle : Corpus.SEVENTEEN.load()) {
+            long clues = Arrays.stream(puzzle)
+                    .flatMapToInt(Arrays::stream)
+                    .filter(value -> value != Solution.NO_SOLUTION)
+                    .count();
+
+            assertEquals(MINIMAL_CLUES, clues);
+        }
+    }
+
+    @Test
+    void contradictionsHaveNoSolution() {
+        for (int[][] puzzle : Corpus.CONTRADICTION.load()) {
+            SolveResult result = this.solver.trySolve(new Solution(Corpus.copyOf(puzzle)),
+                    SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+            assertFalse(result.isSolved());
+        }
+    }
+}
@@ -10,8 +10,6 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.DataSet;
 import org.nd4j.linalg.dataset.api.preprocessor.ImagePreProcessingScaler;
 import org.nd4j.linalg.factory.Nd4j;
-import org.nd4j.linalg.indexing.BooleanIndexing;
-import org.nd4j.linalg.indexing.conditions.Conditions;
 import org.opencv.core.Mat;
 
 import java.io.IOException;
@@ -54,8 +52,14 @@ public class Algorithm {
     }
 
     public int evaluateImage(Mat image) throws IOException {
+        return mostLikely(this.evaluateImageProbabilities(image));
+    }
+
+    public float[] evaluateImageProbabilities(Mat image) throws IOException {
+        float[] probabilities = new float[OUTPUT_CLASSES];
         if (image.empty()) {
-            return Solution.NO_SOLUTION;
+            probabilities[Solution.NO_SOLUTION] = 1;
+            return probabilities;
         }
         try (INDArray input = Nd4j.create(1, WIDTH * HEIGHT);
              INDArray imageData = nativeImageLoader.asRowVector(image)) {
@@ -64,13 +68,21 @@ public class Algorithm {
             input.putRow(0, imageData);
             DataSet dataSet = new DataSet(input, Nd4j.create(1, OUTPUT_CLASSES));
 
-            try (INDArray predicted = model.output(dataSet.get(0).getFeatures(), false);
-                 INDArray predictedValue = BooleanIndexing.firstIndex(predicted, Conditions.equals(predicted.maxNumber()))) {
+            try (INDArray predicted = model.output(dataSet.get(0).getFeatures(), false)) {
+                float[] output = predicted.toFloatVector();
+                System.arraycopy(output, 0, probabilities, 0, Math.min(output.length, OUTPUT_CLASSES));
+                return probabilities;
+            }
+        }
+    }
 
-                return Integer.parseInt(predictedValue.toString());
-            } catch (NumberFormatException e) {
-                return Solution.NO_SOLUTION;
+    public static int mostLikely(float[] probabilities) {
+        int best = Solution.NO_SOLUTION;
+        for (int i = 1; i < probabilities.length; i++) {
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
             }
         }
+        return best;
     }
 }
@@ -58,6 +58,18 @@ public class KafkaConsumerService {
                                     @Header(KafkaHeaders.RECEIVED_PARTITION) Integer partition,
                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
                                     Acknowledgment ack) {
+        log.info("Received single image processing request. Key: {}, Partition: {}, Topic: {}",
+                key, partition, topic);
+        log.debug("Image details: {}", imagesOneInfo);
 
+        try {
+            imageProcessing.processingOne(imagesOneInfo);
+            log.debug("Successfully processed image {} of {}",
+                    imagesOneInfo.getImageId(), imagesOneInfo.getCountImages());
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("Error submitting image processing task: {}. Error: {}",
+                    imagesOneInfo.getImagePath(), e.getMessage(), e);
+        }
     }
 }
@@ -8,21 +8,20 @@ import luka.teum.image_service.util.ImageUtil;
 import messaging.Solution;
 import messaging.TelegramInfo;
 import messaging.image.ImagesInfo;
-import messaging.solution.SolutionsInfo;
+import messaging.image.ImagesOneInfo;
+import messaging.solution.SolutionsOneInfo;
 import org.opencv.core.CvType;
 import org.opencv.core.Mat;
 import storage.Storage;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class ImageProcessing {
 
     private static final String DIGIT_IMAGE_PREFIX = "digits\\";
+    private static final int OUTPUT_CLASSES = Solution.SUDOKU_SIZE + 1;
 
     private final Storage<Mat> storage;
     private final KafkaProducerService kafkaProducerService;
@@ -51,12 +50,29 @@ public class ImageProcessing {
     }
 
     public void processing(ImagesInfo imagesInfo) {
-        Set<Solution> solutions = imagesInfo.getImagesPaths().stream()
-                .map(this::processSingleImage)
-                .collect(Collectors.toSet());
+        int countImages = imagesInfo.getImagesPaths().size();
+        int imageId = 0;
+        for (String imagePath : imagesInfo.getImagesPaths()) {
+            Solution solution = this.processSingleImage(imagePath);
+            this.sendSolution(solution, imageId++, countImages, imagesInfo.getTelegramInfo());
+        }
+    }
 
-        SolutionsInfo solutionsInfo = this.buildSolutionsInfo(solutions, imagesInfo.getTelegramInfo());
-        this.kafkaProducerService.sendSolutionsProcessingInfoSync(solutionsInfo);
+    public void processingOne(ImagesOneInfo imagesOneInfo) {
+        Solution solution = this.processSingleImage(imagesOneInfo.getImagePath());
+        int countImages = imagesOneInfo.getCountImages() != null ? imagesOneInfo.getCountImages() : 1;
+        int imageId = imagesOneInfo.getImageId() != null ? imagesOneInfo.getImageId() : 0;
+        this.sendSolution(solution, imageId, countImages, imagesOneInfo.getTelegramInfo());
+    }
+
+    private void sendSolution(Solution solution, int solutionId, int countSolution, TelegramInfo telegramInfo) {
+        SolutionsOneInfo solutionsOneInfo = SolutionsOneInfo.builder()
+                .solution(solution)
+                .solutionId(solutionId)
+                .countSolution(countSolution)
+                .telegramInfo(telegramInfo)
+                .build();
+        this.kafkaProducerService.sendSolutionsProcessingOneInfoSync(solutionsOneInfo);
     }
 
     private Solution processSingleImage(String imagePath) {
@@ -65,12 +81,12 @@ public class ImageProcessing {
         try {
             image = this.storage.getData(imagePath);
             digits = this.imagePrepare.prepare(image);
-            int[][] result = this.evaluateDigits(digits);
+            float[][][] probabilities = this.evaluateDigits(digits);
             this.saveImagesDigits(digits, imagePath);
-            return new Solution(result);
+            return new Solution(this.mostLikelyDigits(probabilities), probabilities);
         } catch (Exception e) {
             log.error("Error processing image: {}", imagePath, e);
-            return this.createEmptySolution();
+            return new Solution();
         } finally {
             imageUtil.releaseMats(image);
             imageUtil.releaseSubMats(digits);
@@ -90,8 +106,8 @@ public class ImageProcessing {
         }
     }
 
-    private int[][] evaluateDigits(Mat[][] digits) {
-        int[][] result = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+    private float[][][] evaluateDigits(Mat[][] digits) {
+        float[][][] result = new float[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE][];
 
         for (int i = 0; i < Solution.SUDOKU_SIZE; i++) {
             for (int j = 0; j < Solution.SUDOKU_SIZE; j++) {
@@ -101,27 +117,25 @@ public class ImageProcessing {
         return result;
     }
 
-    private int evaluateSingleDigit(Mat digit) {
+    private float[] evaluateSingleDigit(Mat digit) {
         try {
-            return this.algorithm.evaluateImage(digit);
+            return this.algorithm.evaluateImageProbabilities(digit);
         } catch (IOException e) {
             log.warn("Failed to evaluate digit, using NO_SOLUTION", e);
-            return Solution.NO_SOLUTION;
+            float[] probabilities = new float[OUTPUT_CLASSES];
+            probabilities[Solution.NO_SOLUTION] = 1;
+            return probabilities;
         }
     }
 
-    private Solution createEmptySolution() {
-        int[][] emptyResult = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
-        Arrays.stream(emptyResult).forEach(row -> Arrays.fill(row, Solution.NO_SOLUTION));
-        return new Solution(emptyResult);
-    }
-
-    private SolutionsInfo buildSolutionsInfo(Set<Solution> solutions, TelegramInfo telegramInfo) {
-        return SolutionsInfo.builder()
-                .solutions(solutions)
-                .countSolutions(solutions.size())
-                .telegramInfo(telegramInfo)
-                .build();
+    private int[][] mostLikelyDigits(float[][][] probabilities) {
+        int[][] result = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < Solution.SUDOKU_SIZE; i++) {
+            for (int j = 0; j < Solution.SUDOKU_SIZE; j++) {
+                result[i][j] = Algorithm.mostLikely(probabilities[i][j]);
+            }
+        }
+        return result;
     }
 
     private String generateImageFileName(String prefix, String wrappedImagePath, int digit) {
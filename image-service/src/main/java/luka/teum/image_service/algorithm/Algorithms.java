@@ -7,8 +7,10 @@ import org.opencv.core.Point;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class Algorithms {
 
@@ -22,30 +24,20 @@ public class Algorithms {
 
     private final List<AlgorithmConfig> algorithmConfigs;
     private final ExecutorService executorService;
-
-    private ImageAlgorithm.PrepareProcess prepareProcess;
     private final boolean parallelExecution;
 
     public Algorithms(List<AlgorithmConfig> algorithmConfigs) {
-        this(algorithmConfigs, true, Runtime.getRuntime().availableProcessors());
+        this(algorithmConfigs, null);
     }
 
-    public Algorithms(List<AlgorithmConfig> algorithmConfigs, boolean parallelExecution, int threadPoolSize) {
+    public Algorithms(List<AlgorithmConfig> algorithmConfigs, ExecutorService executorService) {
         this.algorithmConfigs = new ArrayList<>(Objects.requireNonNull(algorithmConfigs, "Algorithm configs cannot be null"));
-        this.parallelExecution = parallelExecution;
-
-        if (parallelExecution) {
-            this.executorService = Executors.newFixedThreadPool(
-                    Math.max(1, threadPoolSize),
-                    this.createThreadFactory()
-            );
-        } else {
-            this.executorService = null;
-        }
+        this.executorService = executorService;
+        this.parallelExecution = executorService != null;
     }
 
-    public Algorithms(ImageAlgorithm.PrepareProcess prepareProcess) {
-        this(createDefaultAlgorithms(prepareProcess));
+    public Algorithms(ImageAlgorithm.PrepareProcess prepareProcess, ExecutorService executorService) {
+        this(createDefaultAlgorithms(prepareProcess), executorService);
     }
 
     private static List<AlgorithmConfig> createDefaultAlgorithms(ImageAlgorithm.PrepareProcess prepareProcess) {
@@ -117,27 +109,23 @@ public class Algorithms {
     }
 
     private AlgorithmResult[] executeAlgorithmsParallel(Mat data, List<AlgorithmConfig> configs) {
-        List<Mat> clonedDataList = Collections.nCopies(configs.size(), data.clone());
+        SharedInput input = new SharedInput(data.clone(), configs.size());
+        List<VariantTask> tasks = configs.stream()
+                .map(config -> new VariantTask(input, config))
+                .toList();
 
         try {
-            List<Future<AlgorithmResult>> futures = IntStream.range(0, configs.size())
-                    .mapToObj(i -> {
-                        AlgorithmConfig config = configs.get(i);
-                        Mat clonedData = clonedDataList.get(i);
-                        return this.executorService.submit(() ->
-                                this.executeSingleAlgorithm(clonedData, config)
-                        );
-                    })
-                    .toList();
+            tasks.forEach(task -> task.submit(this.executorService));
 
             AlgorithmResult[] results = new AlgorithmResult[configs.size()];
-            for (int i = 0; i < futures.size(); i++) {
+            for (int i = 0; i < tasks.size(); i++) {
                 try {
-                    results[i] = futures.get(i).get(
+                    results[i] = tasks.get(i).getFuture().get(
                             configs.get(i).getTimeoutMs(),
                             TimeUnit.MILLISECONDS
                     );
                 } catch (TimeoutException e) {
+                    input.abandon();
                     results[i] = new AlgorithmResult(
                             configs.get(i).getName(),
                             "Algorithm timeout after " + configs.get(i).getTimeoutMs() + "ms",
@@ -151,6 +139,7 @@ public class Algorithms {
                     );
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
+                    input.abandon();
                     results[i] = new AlgorithmResult(
                             configs.get(i).getName(),
                             "Algorithm interrupted",
@@ -162,7 +151,103 @@ public class Algorithms {
             return results;
 
         } finally {
-            clonedDataList.forEach(Mat::release);
+            tasks.forEach(VariantTask::cancel);
+            input.release();
+        }
+    }
+
+    public Detection detect(Mat data, QuadScorer scorer, double threshold) {
+        Objects.requireNonNull(data, "Input data cannot be null");
+        Objects.requireNonNull(scorer, "Quad scorer cannot be null");
+
+        if (data.empty()) {
+            throw new IllegalArgumentException("Input matrix is empty");
+        }
+
+        List<AlgorithmConfig> enabledConfigs = this.algorithmConfigs.stream()
+                .filter(AlgorithmConfig::isEnabled)
+                .collect(Collectors.toList());
+        QuadScorer.EdgeMap edges = scorer.prepare(data);
+
+        if (this.parallelExecution) {
+            return this.detectParallel(data, enabledConfigs, scorer, edges, threshold);
+        } else {
+            return this.detectSequential(data, enabledConfigs, scorer, edges, threshold);
+        }
+    }
+
+    private Detection detectSequential(Mat data, List<AlgorithmConfig> configs, QuadScorer scorer,
+                                       QuadScorer.EdgeMap edges, double threshold) {
+        Detection detection = new Detection(configs.size());
+        Mat clonedData = data.clone();
+
+        try {
+            for (AlgorithmConfig config : configs) {
+                if (detection.accept(this.executeSingleAlgorithm(clonedData, config), scorer, edges, threshold)) {
+                    break;
+                }
+            }
+        } finally {
+            clonedData.release();
+        }
+
+        return detection;
+    }
+
+    private Detection detectParallel(Mat data, List<AlgorithmConfig> configs, QuadScorer scorer,
+                                     QuadScorer.EdgeMap edges, double threshold) {
+        Detection detection = new Detection(configs.size());
+        if (configs.isEmpty()) {
+            return detection;
+        }
+
+        SharedInput input = new SharedInput(data.clone(), configs.size());
+        CompletionService<AlgorithmResult> completionService = new ExecutorCompletionService<>(this.executorService);
+        List<VariantTask> tasks = configs.stream()
+                .map(config -> new VariantTask(input, config))
+                .toList();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(configs.stream()
+                .mapToLong(AlgorithmConfig::getTimeoutMs)
+                .max()
+                .orElse(0));
+
+        try {
+            tasks.forEach(task -> task.submit(completionService));
+
+            int pending = tasks.size();
+            for (VariantTask task : tasks) {
+                if (task.isRejected()) {
+                    pending--;
+                    detection.accept(this.getCompleted(task.getFuture()), scorer, edges, threshold);
+                }
+            }
+            for (int i = 0; i < pending; i++) {
+                Future<AlgorithmResult> completed = completionService.poll(
+                        deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    break;
+                }
+                if (detection.accept(this.getCompleted(completed), scorer, edges, threshold)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            tasks.forEach(VariantTask::cancel);
+            input.release();
+        }
+
+        return detection;
+    }
+
+    private AlgorithmResult getCompleted(Future<AlgorithmResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new AlgorithmResult("unknown", "Algorithm failed: " + e.getCause().getMessage(), 0);
+        } catch (CancellationException e) {
+            return new AlgorithmResult("unknown", "Algorithm cancelled", 0);
         }
     }
 
@@ -349,25 +434,137 @@ public class Algorithms {
         }
     }
 
-    private ThreadFactory createThreadFactory() {
-        return r -> {
-            Thread thread = new Thread(r, "Algorithm-Executor-" + System.currentTimeMillis());
-            thread.setDaemon(true);
-            thread.setPriority(Thread.NORM_PRIORITY);
-            return thread;
-        };
+    @Getter
+    public static class Detection {
+        private final int variants;
+        private final List<AlgorithmResult> completed = new ArrayList<>();
+        private final Map<AlgorithmResult, Double> scores = new IdentityHashMap<>();
+        private AlgorithmResult winner;
+        private double winnerScore;
+
+        private Detection(int variants) {
+            this.variants = variants;
+        }
+
+        private boolean accept(AlgorithmResult result, QuadScorer scorer, QuadScorer.EdgeMap edges, double threshold) {
+            this.completed.add(result);
+            if (!result.hasValidPoints()) {
+                return false;
+            }
+            double score = scorer.score(edges, result.getPoints());
+            this.scores.put(result, score);
+            if (score >= threshold) {
+                this.winner = result;
+                this.winnerScore = score;
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isConfident() {
+            return this.winner != null;
+        }
+
+        public int getCancelled() {
+            return this.variants - this.completed.size();
+        }
+
+        public double getBestScore() {
+            return this.scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        }
+
+        public List<ScoredQuad> getQuads() {
+            if (this.winner != null) {
+                return List.of(new ScoredQuad(this.winner.getPoints(), this.winnerScore));
+            }
+            return this.scores.entrySet().stream()
+                    .sorted(Map.Entry.<AlgorithmResult, Double>comparingByValue().reversed())
+                    .map(entry -> new ScoredQuad(entry.getKey().getPoints(), entry.getValue()))
+                    .toList();
+        }
     }
 
-    public void shutdown() {
-        if (this.executorService != null) {
-            this.executorService.shutdown();
+    private final class VariantTask implements Callable<AlgorithmResult> {
+        private final SharedInput input;
+        private final AlgorithmConfig config;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        @Getter
+        private Future<AlgorithmResult> future;
+
+        private VariantTask(SharedInput input, AlgorithmConfig config) {
+            this.input = input;
+            this.config = config;
+        }
+
+        @Getter
+        private boolean rejected;
+
+        private void submit(ExecutorService executor) {
+            this.submit(() -> executor.submit(this));
+        }
+
+        private void submit(CompletionService<AlgorithmResult> completionService) {
+            this.submit(() -> completionService.submit(this));
+        }
+
+        private void submit(Supplier<Future<AlgorithmResult>> submission) {
+            try {
+                this.future = submission.get();
+            } catch (RejectedExecutionException e) {
+                this.rejected = true;
+                this.future = CompletableFuture.completedFuture(new AlgorithmResult(this.config.getName(),
+                        "Algorithm rejected: detection executor is saturated", 0));
+            }
+        }
+
+        @Override
+        public AlgorithmResult call() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return new AlgorithmResult(this.config.getName(), "Algorithm cancelled", 0);
+            }
             try {
-                if (!this.executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                    this.executorService.shutdownNow();
+                if (this.input.isAbandoned()) {
+                    return new AlgorithmResult(this.config.getName(), "Algorithm skipped after timeout", 0);
                 }
-            } catch (InterruptedException e) {
-                this.executorService.shutdownNow();
-                Thread.currentThread().interrupt();
+                return executeSingleAlgorithm(this.input.getData(), this.config);
+            } finally {
+                this.input.release();
+            }
+        }
+
+        private void cancel() {
+            if (this.future == null) {
+                if (this.claimed.compareAndSet(false, true)) {
+                    this.input.release();
+                }
+            } else if (this.claimed.compareAndSet(false, true)) {
+                // Never started: drop it from the queue and give back its reference to the input.
+                this.future.cancel(false);
+                this.input.release();
+            } else if (!this.future.isDone()) {
+                this.future.cancel(true);
+            }
+        }
+    }
+
+    @Getter
+    private static class SharedInput {
+        private final Mat data;
+        private final AtomicInteger references;
+        private volatile boolean abandoned;
+
+        private SharedInput(Mat data, int tasks) {
+            this.data = data;
+            this.references = new AtomicInteger(tasks + 1);
+        }
+
+        private void abandon() {
+            this.abandoned = true;
+        }
+
+        private void release() {
+            if (this.references.decrementAndGet() == 0) {
+                this.data.release();
             }
         }
     }
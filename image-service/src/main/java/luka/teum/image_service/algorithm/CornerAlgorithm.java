@@ -1,18 +1,16 @@
 package luka.teum.image_service.algorithm;
 
 import lombok.Setter;
-import luka.teum.image_service.data.RightTriangle;
-import luka.teum.image_service.parellel.TriangleParallel;
+import luka.teum.image_service.data.PointBuffer;
+import luka.teum.image_service.data.TriangleBuffer;
+import luka.teum.image_service.util.GeometryScratch;
 import luka.teum.image_service.util.ImageUtil;
+import luka.teum.image_service.util.RightTriangleSearch;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfPoint;
 import org.opencv.core.Point;
 import org.opencv.imgproc.Imgproc;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 public class CornerAlgorithm implements ImageAlgorithm {
 
     public static final int V1 = 0;
@@ -21,7 +19,7 @@ public class CornerAlgorithm implements ImageAlgorithm {
     public static final int V4 = 3;
 
     private final ImageUtil imageUtil;
-    private final TriangleParallel triangleParallel;
+    private final RightTriangleSearch rightTriangleSearch;
     @Setter
     private PrepareProcess prepareProcess;
     private double contrast = 3.0;
@@ -34,20 +32,20 @@ public class CornerAlgorithm implements ImageAlgorithm {
     double minS = 0;
     double minSV2 = 80000;
 
-    public CornerAlgorithm(ImageUtil imageUtil, TriangleParallel triangleParallel) {
+    public CornerAlgorithm(ImageUtil imageUtil, RightTriangleSearch rightTriangleSearch) {
         if (imageUtil == null) {
             throw new IllegalArgumentException("util.ImageUtil cannot be null");
         }
-        if (triangleParallel == null) {
-            throw new IllegalArgumentException("TriangleParallel cannot be null");
+        if (rightTriangleSearch == null) {
+            throw new IllegalArgumentException("RightTriangleSearch cannot be null");
         }
         this.imageUtil = imageUtil;
-        this.triangleParallel = triangleParallel;
+        this.rightTriangleSearch = rightTriangleSearch;
     }
 
     public CornerAlgorithm() {
         this.imageUtil = new ImageUtil();
-        this.triangleParallel = new TriangleParallel();
+        this.rightTriangleSearch = new RightTriangleSearch();
     }
 
 
@@ -66,15 +64,15 @@ public class CornerAlgorithm implements ImageAlgorithm {
     private Point[] algorithmV1(Mat data) {
         Mat prepareImage = this.prepareImage(data);
         try {
-            List<RightTriangle> rightTriangles = this.outerRightTriangle(prepareImage);
+            GeometryScratch scratch = GeometryScratch.acquire();
+            TriangleBuffer rightTriangles = this.outerRightTriangle(prepareImage, scratch);
 
-            if (rightTriangles.isEmpty()) {
+            int max = rightTriangles.maxArea();
+            if (max < 0) {
                 return new Point[0];
             }
 
-            RightTriangle max = this.getRightTriangleWithMaxS(rightTriangles);
-
-            return max.toPoints();
+            return rightTriangles.toPoints(max, scratch.getCorners());
         } finally {
             prepareImage.release();
         }
@@ -84,22 +82,26 @@ public class CornerAlgorithm implements ImageAlgorithm {
     private Point[] algorithmV2(Mat data) {
         Mat prepareImage = this.prepareImage(data);
         try {
-            List<RightTriangle> rightTriangles = this.outerRightTriangle(prepareImage);
+            GeometryScratch scratch = GeometryScratch.acquire();
+            TriangleBuffer rightTriangles = this.outerRightTriangle(prepareImage, scratch);
             if (rightTriangles.isEmpty()) {
                 return new Point[0];
             }
 
-            Point[] points = this.getUnicuePoint(rightTriangles, false);
+            PointBuffer points = rightTriangles.collectVertices(scratch.getCorners(), scratch.getVertices(),
+                    scratch.marks(scratch.getCorners().size()));
+            if (Thread.currentThread().isInterrupted()) {
+                return new Point[0];
+            }
 
-            rightTriangles = triangleParallel.outerRightTriangle(points, Double.MAX_VALUE, this.minSV2);
+            this.rightTriangleSearch.search(scratch, points, Double.MAX_VALUE, this.minSV2, rightTriangles);
 
-            if (rightTriangles.isEmpty()) {
+            int max = rightTriangles.maxArea();
+            if (max < 0) {
                 return new Point[0];
             }
 
-            RightTriangle max = this.getRightTriangleWithMaxS(rightTriangles);
-
-            return max.toPoints();
+            return rightTriangles.toPoints(max, points);
         } finally {
             prepareImage.release();
         }
@@ -146,53 +148,21 @@ public class CornerAlgorithm implements ImageAlgorithm {
         return image;
     }
 
-    private List<RightTriangle> outerRightTriangle(Mat imageG) {
+    private TriangleBuffer outerRightTriangle(Mat imageG, GeometryScratch scratch) {
         MatOfPoint corners = new MatOfPoint();
         Imgproc.goodFeaturesToTrack(imageG, corners, this.maxCorners, this.qualityLevel, this.minDistance);
 
-        Point[] points = corners.toArray();
-        if (points.length < 3) {
-            return List.of();
-        }
-
         try {
-            return triangleParallel.outerRightTriangle(points, this.maxS, this.minS);
+            PointBuffer points = scratch.getCorners().load(corners);
+            TriangleBuffer rightTriangles = scratch.getTriangles();
+            if (points.size() < 3 || Thread.currentThread().isInterrupted()) {
+                rightTriangles.clear();
+                return rightTriangles;
+            }
+            this.rightTriangleSearch.search(scratch, points, this.maxS, this.minS, rightTriangles);
+            return rightTriangles;
         } finally {
             corners.release();
         }
     }
-
-
-    private RightTriangle getRightTriangleWithMaxS(List<RightTriangle> rightTriangles) {
-        double maxS = 0;
-        RightTriangle maxRightTriangle = null;
-        for (RightTriangle rightTriangle : rightTriangles) {
-            if (rightTriangle.getArea() > maxS) {
-                maxS = rightTriangle.getArea();
-                maxRightTriangle = rightTriangle;
-            }
-        }
-        return maxRightTriangle;
-    }
-
-    private Point[] getUnicuePoint(List<RightTriangle> rightTriangles, boolean includeSquarePoint) {
-        if (rightTriangles == null || rightTriangles.isEmpty()) {
-            return new Point[0];
-        }
-        int estimatedSize = rightTriangles.size() * (includeSquarePoint ? 4 : 3);
-        Set<Point> points = new HashSet<>(estimatedSize);
-
-        for (RightTriangle triangle : rightTriangles) {
-            if (triangle == null) continue;
-
-            points.add(triangle.getP1());
-            points.add(triangle.getP2());
-            points.add(triangle.getP3());
-
-            if (includeSquarePoint) {
-                points.add(triangle.getSquarePoint());
-            }
-        }
-        return points.toArray(new Point[0]);
-    }
 }
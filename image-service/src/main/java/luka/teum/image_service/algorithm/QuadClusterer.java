@@ -0,0 +1,137 @@
+package luka.teum.image_service.algorithm;
+
+import org.opencv.core.Point;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class QuadClusterer {
+
+    private static final int CORNERS = 4;
+
+    private final double minIou;
+    private final double cornerTolerance;
+    private final int topK;
+
+    public QuadClusterer(double minIou, double cornerTolerance, int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("Top-k must be positive");
+        }
+        this.minIou = minIou;
+        this.cornerTolerance = cornerTolerance;
+        this.topK = topK;
+    }
+
+    public List<ScoredQuad> cluster(List<ScoredQuad> quads) {
+        List<ScoredQuad> ordered = quads.stream()
+                .filter(quad -> quad.getPoints() != null && quad.getPoints().length == CORNERS)
+                .sorted(Comparator.comparingDouble(ScoredQuad::getScore).reversed())
+                .toList();
+
+        List<Cluster> clusters = new ArrayList<>();
+        for (ScoredQuad quad : ordered) {
+            Cluster match = clusters.stream()
+                    .filter(cluster -> this.isSame(cluster.seed.getPoints(), quad.getPoints()))
+                    .findFirst()
+                    .orElse(null);
+            if (match == null) {
+                clusters.add(new Cluster(quad));
+            } else {
+                match.add(quad);
+            }
+        }
+
+        return clusters.stream()
+                .map(Cluster::toQuad)
+                .sorted(Comparator.comparingDouble(ScoredQuad::getScore)
+                        .thenComparingInt(ScoredQuad::getSupport)
+                        .reversed())
+                .limit(this.topK)
+                .toList();
+    }
+
+    private boolean isSame(Point[] a, Point[] b) {
+        return iou(a, b) >= this.minIou || maxCornerDistance(a, b) <= this.cornerTolerance * meanSide(a);
+    }
+
+    private static double iou(Point[] a, Point[] b) {
+        double left = Math.max(minX(a), minX(b));
+        double right = Math.min(maxX(a), maxX(b));
+        double top = Math.max(minY(a), minY(b));
+        double bottom = Math.min(maxY(a), maxY(b));
+        double intersection = Math.max(0, right - left) * Math.max(0, bottom - top);
+        double union = boxArea(a) + boxArea(b) - intersection;
+        return union <= 0 ? 0 : intersection / union;
+    }
+
+    private static double maxCornerDistance(Point[] a, Point[] b) {
+        double max = 0;
+        for (int corner = 0; corner < CORNERS; corner++) {
+            max = Math.max(max, Math.hypot(a[corner].x - b[corner].x, a[corner].y - b[corner].y));
+        }
+        return max;
+    }
+
+    private static double meanSide(Point[] quad) {
+        Point[] ring = {quad[0], quad[1], quad[3], quad[2]};
+        double total = 0;
+        for (int i = 0; i < CORNERS; i++) {
+            Point next = ring[(i + 1) % CORNERS];
+            total += Math.hypot(ring[i].x - next.x, ring[i].y - next.y);
+        }
+        return total / CORNERS;
+    }
+
+    private static double boxArea(Point[] quad) {
+        return (maxX(quad) - minX(quad)) * (maxY(quad) - minY(quad));
+    }
+
+    private static double minX(Point[] quad) {
+        return Math.min(Math.min(quad[0].x, quad[1].x), Math.min(quad[2].x, quad[3].x));
+    }
+
+    private static double maxX(Point[] quad) {
+        return Math.max(Math.max(quad[0].x, quad[1].x), Math.max(quad[2].x, quad[3].x));
+    }
+
+    private static double minY(Point[] quad) {
+        return Math.min(Math.min(quad[0].y, quad[1].y), Math.min(quad[2].y, quad[3].y));
+    }
+
+    private static double maxY(Point[] quad) {
+        return Math.max(Math.max(quad[0].y, quad[1].y), Math.max(quad[2].y, quad[3].y));
+    }
+
+    private static final class Cluster {
+        private final ScoredQuad seed;
+        private final double[] x = new double[CORNERS];
+        private final double[] y = new double[CORNERS];
+        private double weight;
+        private int support;
+
+        private Cluster(ScoredQuad seed) {
+            this.seed = seed;
+            this.add(seed);
+        }
+
+        private void add(ScoredQuad quad) {
+            // Weight by score so the consensus leans towards the better-supported corners; keep a floor for zero scores.
+            double weight = Math.max(quad.getScore(), 1e-6) * quad.getSupport();
+            for (int corner = 0; corner < CORNERS; corner++) {
+                this.x[corner] += quad.getPoints()[corner].x * weight;
+                this.y[corner] += quad.getPoints()[corner].y * weight;
+            }
+            this.weight += weight;
+            this.support += quad.getSupport();
+        }
+
+        private ScoredQuad toQuad() {
+            Point[] points = new Point[CORNERS];
+            for (int corner = 0; corner < CORNERS; corner++) {
+                points[corner] = new Point(this.x[corner] / this.weight, this.y[corner] / this.weight);
+            }
+            return new ScoredQuad(points, this.seed.getScore(), this.support);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package luka.teum.image_service.algorithm;
+
+import lombok.Getter;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Point;
+import org.opencv.imgproc.Imgproc;
+
+public class QuadScorer {
+
+    private static final int GRID_CELLS = 9;
+    private static final int SAMPLES_PER_LINE = 48;
+    private static final double AREA_WEIGHT = 0.2;
+    private static final double SQUARENESS_WEIGHT = 0.3;
+    private static final double LINE_WEIGHT = 0.5;
+    private static final double CANNY_LOW = 50;
+    private static final double CANNY_HIGH = 150;
+
+    private final double fullAreaFraction;
+
+    public QuadScorer(double fullAreaFraction) {
+        if (fullAreaFraction <= 0 || fullAreaFraction > 1) {
+            throw new IllegalArgumentException("Full area fraction must be in (0, 1]");
+        }
+        this.fullAreaFraction = fullAreaFraction;
+    }
+
+    public EdgeMap prepare(Mat image) {
+        Mat gray = new Mat();
+        Mat edges = new Mat();
+        try {
+            if (image.channels() == 3) {
+                Imgproc.cvtColor(image, gray, Imgproc.COLOR_BGR2GRAY);
+            } else if (image.channels() == 4) {
+                Imgproc.cvtColor(image, gray, Imgproc.COLOR_BGRA2GRAY);
+            } else {
+                image.convertTo(gray, CvType.CV_8U);
+            }
+            Imgproc.Canny(gray, edges, CANNY_LOW, CANNY_HIGH);
+            Imgproc.dilate(edges, edges, new Mat(), new Point(-1, -1), 1);
+
+            byte[] pixels = new byte[(int) edges.total()];
+            edges.get(0, 0, pixels);
+            return new EdgeMap(pixels, edges.cols(), edges.rows());
+        } finally {
+            gray.release();
+            edges.release();
+        }
+    }
+
+    public double score(EdgeMap edges, Point[] quad) {
+        if (quad == null || quad.length != 4) {
+            return 0;
+        }
+        double area = Math.min(1, this.area(quad) / (edges.getWidth() * (double) edges.getHeight() * this.fullAreaFraction));
+        return AREA_WEIGHT * area
+                + SQUARENESS_WEIGHT * this.squareness(quad)
+                + LINE_WEIGHT * this.lineSupport(edges, quad);
+    }
+
+    private double area(Point[] quad) {
+        Point[] ring = {quad[0], quad[1], quad[3], quad[2]};
+        double twiceArea = 0;
+        for (int i = 0; i < ring.length; i++) {
+            Point a = ring[i];
+            Point b = ring[(i + 1) % ring.length];
+            twiceArea += a.x * b.y - b.x * a.y;
+        }
+        return Math.abs(twiceArea) / 2;
+    }
+
+    private double squareness(Point[] quad) {
+        Point[] ring = {quad[0], quad[1], quad[3], quad[2]};
+        double minSide = Double.MAX_VALUE;
+        double maxSide = 0;
+        double skew = 0;
+        for (int i = 0; i < ring.length; i++) {
+            Point previous = ring[(i + ring.length - 1) % ring.length];
+            Point corner = ring[i];
+            Point next = ring[(i + 1) % ring.length];
+
+            double side = distance(corner, next);
+            minSide = Math.min(minSide, side);
+            maxSide = Math.max(maxSide, side);
+
+            double ax = previous.x - corner.x;
+            double ay = previous.y - corner.y;
+            double bx = next.x - corner.x;
+            double by = next.y - corner.y;
+            double norm = Math.hypot(ax, ay) * Math.hypot(bx, by);
+            skew += norm == 0 ? 1 : Math.abs(ax * bx + ay * by) / norm;
+        }
+        if (maxSide == 0) {
+            return 0;
+        }
+        return (minSide / maxSide) * (1 - skew / ring.length);
+    }
+
+    private double lineSupport(EdgeMap edges, Point[] quad) {
+        int hits = 0;
+        int samples = 0;
+        for (int line = 0; line <= GRID_CELLS; line++) {
+            double t = line / (double) GRID_CELLS;
+            Point left = lerp(quad[0], quad[2], t);
+            Point right = lerp(quad[1], quad[3], t);
+            Point top = lerp(quad[0], quad[1], t);
+            Point bottom = lerp(quad[2], quad[3], t);
+            for (int sample = 0; sample < SAMPLES_PER_LINE; sample++) {
+                double s = (sample + 0.5) / SAMPLES_PER_LINE;
+                hits += edges.isEdge(left.x + (right.x - left.x) * s, left.y + (right.y - left.y) * s) ? 1 : 0;
+                hits += edges.isEdge(top.x + (bottom.x - top.x) * s, top.y + (bottom.y - top.y) * s) ? 1 : 0;
+                samples += 2;
+            }
+        }
+        return hits / (double) samples;
+    }
+
+    private static Point lerp(Point from, Point to, double t) {
+        return new Point(from.x + (to.x - from.x) * t, from.y + (to.y - from.y) * t);
+    }
+
+    private static double distance(Point a, Point b) {
+        return Math.hypot(a.x - b.x, a.y - b.y);
+    }
+
+    @Getter
+    public static class EdgeMap {
+        private final byte[] pixels;
+        private final int width;
+        private final int height;
+
+        public EdgeMap(byte[] pixels, int width, int height) {
+            this.pixels = pixels;
+            this.width = width;
+            this.height = height;
+        }
+
+        public boolean isEdge(double x, double y) {
+            int column = (int) Math.round(x);
+            int row = (int) Math.round(y);
+            if (column < 0 || row < 0 || column >= this.width || row >= this.height) {
+                return false;
+            }
+            return this.pixels[row * this.width + column] != 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package luka.teum.image_service.algorithm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opencv.core.Point;
+
+@Getter
+@AllArgsConstructor
+public class ScoredQuad {
+    private final Point[] points;
+    private final double score;
+    private final int support;
+
+    public ScoredQuad(Point[] points, double score) {
+        this(points, score, 1);
+    }
+}
@@ -0,0 +1,79 @@
+package luka.teum.image_service.config;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.image_service.algorithm.QuadClusterer;
+import luka.teum.image_service.algorithm.QuadScorer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Data
+@Slf4j
+@Configuration
+@ConfigurationProperties("app.image")
+public class ImageConfig {
+
+    private Detection detection = new Detection();
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService algorithmExecutor() {
+        int threads = Math.max(1, this.detection.getThreads());
+        log.info("Using detection executor with {} threads, queue capacity {}",
+                threads, this.detection.getQueueCapacity());
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, this.detection.getQueueCapacity())),
+                this.createThreadFactory(),
+                // Rejected variants come back as failed results; running them on the caller would bypass
+                // their timeout and the early exit.
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    public QuadScorer quadScorer() {
+        log.info("Using early-exit detection: {}, confidence threshold {}",
+                this.detection.isEarlyExit(), this.detection.getConfidenceThreshold());
+        return new QuadScorer(this.detection.getFullAreaFraction());
+    }
+
+    @Bean
+    public QuadClusterer quadClusterer() {
+        log.info("Keeping top-{} distinct quads, merge IoU {}, corner tolerance {}",
+                this.detection.getTopK(), this.detection.getMergeIou(), this.detection.getMergeCornerTolerance());
+        return new QuadClusterer(this.detection.getMergeIou(), this.detection.getMergeCornerTolerance(),
+                this.detection.getTopK());
+    }
+
+    private ThreadFactory createThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "Algorithm-Executor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Data
+    public static class Detection {
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 64;
+        private boolean earlyExit = true;
+        private double confidenceThreshold = 0.75;
+        private double fullAreaFraction = 0.1;
+        private int topK = 2;
+        private double mergeIou = 0.85;
+        private double mergeCornerTolerance = 0.05;
+    }
+}
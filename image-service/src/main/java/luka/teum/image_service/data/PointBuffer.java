@@ -0,0 +1,91 @@
+package luka.teum.image_service.data;
+
+import org.opencv.core.Mat;
+import org.opencv.core.Point;
+
+import java.util.Arrays;
+
+public class PointBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private float[] xs;
+    private float[] ys;
+    private int[] raw = new int[0];
+    private int size;
+
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PointBuffer(int capacity) {
+        this.xs = new float[Math.max(1, capacity)];
+        this.ys = new float[Math.max(1, capacity)];
+    }
+
+    public PointBuffer load(Point[] points) {
+        this.clear();
+        this.ensureCapacity(points.length);
+        for (Point point : points) {
+            this.add(point.x, point.y);
+        }
+        return this;
+    }
+
+    // Reads the CV_32SC2 output of goodFeaturesToTrack without going through Point objects.
+    public PointBuffer load(Mat corners) {
+        this.clear();
+        int count = (int) corners.total();
+        if (count == 0) {
+            return this;
+        }
+        if (this.raw.length < count * 2) {
+            this.raw = new int[count * 2];
+        }
+        corners.get(0, 0, this.raw);
+        this.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            this.add(this.raw[2 * i], this.raw[2 * i + 1]);
+        }
+        return this;
+    }
+
+    public void add(double x, double y) {
+        this.ensureCapacity(this.size + 1);
+        this.xs[this.size] = (float) x;
+        this.ys[this.size] = (float) y;
+        this.size++;
+    }
+
+    public float x(int index) {
+        return this.xs[index];
+    }
+
+    public float y(int index) {
+        return this.ys[index];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.xs.length) {
+            int grown = Math.max(capacity, this.xs.length * 2);
+            this.xs = Arrays.copyOf(this.xs, grown);
+            this.ys = Arrays.copyOf(this.ys, grown);
+        }
+    }
+
+    public Point[] toPoints() {
+        Point[] points = new Point[this.size];
+        for (int i = 0; i < this.size; i++) {
+            points[i] = new Point(this.xs[i], this.ys[i]);
+        }
+        return points;
+    }
+}
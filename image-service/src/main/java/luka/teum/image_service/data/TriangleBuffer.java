@@ -0,0 +1,98 @@
+package luka.teum.image_service.data;
+
+import org.opencv.core.Point;
+
+import java.util.Arrays;
+
+public class TriangleBuffer {
+
+    public static final int HORIZONTAL = 0;
+    public static final int CORNER = 1;
+    public static final int VERTICAL = 2;
+
+    private static final int VERTICES = 3;
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private int[] vertices = new int[DEFAULT_CAPACITY * VERTICES];
+    private double[] areas = new double[DEFAULT_CAPACITY];
+    private int size;
+
+    public void add(int horizontal, int corner, int vertical, double area) {
+        if (this.size == this.areas.length) {
+            this.areas = Arrays.copyOf(this.areas, this.size * 2);
+            this.vertices = Arrays.copyOf(this.vertices, this.size * 2 * VERTICES);
+        }
+        int offset = this.size * VERTICES;
+        this.vertices[offset + HORIZONTAL] = horizontal;
+        this.vertices[offset + CORNER] = corner;
+        this.vertices[offset + VERTICAL] = vertical;
+        this.areas[this.size] = area;
+        this.size++;
+    }
+
+    public int vertex(int triangle, int vertex) {
+        return this.vertices[triangle * VERTICES + vertex];
+    }
+
+    public double area(int triangle) {
+        return this.areas[triangle];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public int maxArea() {
+        int max = -1;
+        double maxS = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.areas[i] > maxS) {
+                maxS = this.areas[i];
+                max = i;
+            }
+        }
+        return max;
+    }
+
+    public PointBuffer collectVertices(PointBuffer points, PointBuffer target, boolean[] marks) {
+        target.clear();
+        Arrays.fill(marks, 0, points.size(), false);
+        for (int i = 0; i < this.size * VERTICES; i++) {
+            marks[this.vertices[i]] = true;
+        }
+        for (int i = 0; i < points.size(); i++) {
+            if (marks[i]) {
+                target.add(points.x(i), points.y(i));
+            }
+        }
+        return target;
+    }
+
+    public Point[] toPoints(int triangle, PointBuffer points) {
+        int offset = triangle * VERTICES;
+        double x1 = Double.MAX_VALUE;
+        double y1 = Double.MAX_VALUE;
+        double x2 = -Double.MAX_VALUE;
+        double y2 = -Double.MAX_VALUE;
+        for (int i = offset; i < offset + VERTICES; i++) {
+            x1 = Math.min(x1, points.x(this.vertices[i]));
+            y1 = Math.min(y1, points.y(this.vertices[i]));
+            x2 = Math.max(x2, points.x(this.vertices[i]));
+            y2 = Math.max(y2, points.y(this.vertices[i]));
+        }
+        return new Point[]{
+                new Point(x1, y1),
+                new Point(x2, y1),
+                new Point(x1, y2),
+                new Point(x2, y2),
+        };
+    }
+}
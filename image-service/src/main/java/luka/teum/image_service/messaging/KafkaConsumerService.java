@@ -3,7 +3,6 @@ package luka.teum.image_service.messaging;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import luka.teum.image_service.processing.ImageProcessing;
-import luka.teum.image_service.storage.MatFileStorage;
 import messaging.image.ImageInfo;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -19,13 +18,11 @@ import java.util.concurrent.Executors;
 @Component
 public class KafkaConsumerService {
 
-    private final MatFileStorage matFileStorage;
-    private final KafkaProducerService kafkaProducerService;
+    private final ImageProcessing imageProcessing;
     private final ExecutorService executorService;
 
-    public KafkaConsumerService(MatFileStorage matFileStorage, KafkaProducerService kafkaProducerService) {
-        this.matFileStorage = matFileStorage;
-        this.kafkaProducerService = kafkaProducerService;
+    public KafkaConsumerService(ImageProcessing imageProcessing) {
+        this.imageProcessing = imageProcessing;
         this.executorService = Executors.newFixedThreadPool(
                 Runtime.getRuntime().availableProcessors()
         );
@@ -46,8 +43,6 @@ public class KafkaConsumerService {
         log.debug("Image details: {}", imageInfo);
 
         try {
-            ImageProcessing imageProcessing = new ImageProcessing(matFileStorage, kafkaProducerService);
-
             executorService.submit(() -> {
                 try {
                     imageProcessing.processing(imageInfo);
@@ -0,0 +1,87 @@
+package luka.teum.image_service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import luka.teum.image_service.algorithm.Algorithms;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class DetectionMetrics {
+
+    private static final String VARIANT_TAG = "variant";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String CONFIDENT = "confident";
+    private static final String FALLBACK = "fallback";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer confidentTime;
+    private final Timer fallbackTime;
+    private final DistributionSummary confidentScore;
+    private final DistributionSummary fallbackScore;
+    private final Counter cancelled;
+    private final DistributionSummary candidates;
+    private final DistributionSummary distinct;
+
+    public DetectionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.confidentTime = this.time(CONFIDENT);
+        this.fallbackTime = this.time(FALLBACK);
+        this.confidentScore = this.score(CONFIDENT);
+        this.fallbackScore = this.score(FALLBACK);
+        this.cancelled = Counter.builder("image.detection.cancelled")
+                .description("Detection variants cancelled or skipped after an early exit or timeout")
+                .register(meterRegistry);
+        this.candidates = this.quads("candidates");
+        this.distinct = this.quads("distinct");
+    }
+
+    public Algorithms.Detection record(Algorithms.Detection detection, long elapsedNanos) {
+        if (detection.isConfident()) {
+            Counter.builder("image.detection.winner")
+                    .description("Detections finished early, by the variant whose quad passed the threshold")
+                    .tag(VARIANT_TAG, detection.getWinner().getAlgorithmName())
+                    .register(this.meterRegistry)
+                    .increment();
+            this.confidentTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            this.confidentScore.record(detection.getWinnerScore());
+        } else {
+            this.fallbackTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            this.fallbackScore.record(detection.getBestScore());
+        }
+        this.cancelled.increment(detection.getCancelled());
+        return detection;
+    }
+
+    public void recordQuads(int candidates, int distinct) {
+        this.candidates.record(candidates);
+        this.distinct.record(distinct);
+    }
+
+    private DistributionSummary quads(String stage) {
+        return DistributionSummary.builder("image.detection.quads")
+                .description("Quads per image before and after merging near-duplicates")
+                .tag("stage", stage)
+                .register(this.meterRegistry);
+    }
+
+    private Timer time(String outcome) {
+        return Timer.builder("image.detection.time")
+                .description("Wall-clock time to find grid quads in one image")
+                .tag(OUTCOME_TAG, outcome)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private DistributionSummary score(String outcome) {
+        return DistributionSummary.builder("image.detection.score")
+                .description("Score of the accepted or best quad in one image")
+                .tag(OUTCOME_TAG, outcome)
+                .maximumExpectedValue(1.0)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+}
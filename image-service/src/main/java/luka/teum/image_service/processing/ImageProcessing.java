@@ -3,40 +3,63 @@ package luka.teum.image_service.processing;
 import lombok.extern.slf4j.Slf4j;
 import luka.teum.image_service.algorithm.Algorithms;
 import luka.teum.image_service.algorithm.ImageAlgorithm;
+import luka.teum.image_service.algorithm.QuadClusterer;
+import luka.teum.image_service.algorithm.QuadScorer;
+import luka.teum.image_service.algorithm.ScoredQuad;
+import luka.teum.image_service.config.ImageConfig;
 import luka.teum.image_service.messaging.KafkaProducerService;
+import luka.teum.image_service.metrics.DetectionMetrics;
 import luka.teum.image_service.util.ImageUtil;
 import messaging.image.ImageInfo;
 import messaging.image.ImagesInfo;
 import org.opencv.core.Mat;
 import org.opencv.core.Point;
+import org.springframework.stereotype.Component;
 import storage.Storage;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @Slf4j
+@Component
 public class ImageProcessing {
 
     private final Storage<Mat> storage;
     private final KafkaProducerService kafkaProducerService;
+    private final ExecutorService algorithmExecutor;
+    private final QuadScorer quadScorer;
+    private final QuadClusterer quadClusterer;
+    private final DetectionMetrics detectionMetrics;
+    private final boolean earlyExit;
+    private final double confidenceThreshold;
 
     private static final String WRAPPED_IMAGE_PREFIX = "wrapped\\";
     private static final String PREPARE_IMAGE_PREFIX = "prepare\\";
 
-    public ImageProcessing(Storage<Mat> storage, KafkaProducerService kafkaProducerService) {
+    public ImageProcessing(Storage<Mat> storage, KafkaProducerService kafkaProducerService,
+                           ExecutorService algorithmExecutor, QuadScorer quadScorer, QuadClusterer quadClusterer,
+                           ImageConfig imageConfig, DetectionMetrics detectionMetrics) {
         this.storage = storage;
         this.kafkaProducerService = kafkaProducerService;
+        this.algorithmExecutor = algorithmExecutor;
+        this.quadScorer = quadScorer;
+        this.quadClusterer = quadClusterer;
+        this.detectionMetrics = detectionMetrics;
+        this.earlyExit = imageConfig.getDetection().isEarlyExit();
+        this.confidenceThreshold = imageConfig.getDetection().getConfidenceThreshold();
     }
 
     public void processing(ImageInfo imageInfo) {
         Mat image = null;
-        Algorithms algorithms = new Algorithms(this.defaultPrepareProcess(imageInfo));
+        Algorithms algorithms = new Algorithms(this.defaultPrepareProcess(imageInfo), this.algorithmExecutor);
         try {
             image = storage.getData(imageInfo.getImagePath());
 
-            Point[][] points = algorithms.algorithm(image);
+            Point[][] points = this.detect(algorithms, image);
             Set<String> imagesPaths = this.processImagePoints(image, imageInfo, points);
 
             if (!imagesPaths.isEmpty()) {
@@ -54,6 +77,41 @@ public class ImageProcessing {
         }
     }
 
+    private Point[][] detect(Algorithms algorithms, Mat image) {
+        List<ScoredQuad> candidates = this.earlyExit
+                ? this.detectEarly(algorithms, image)
+                : this.score(image, algorithms.algorithm(image));
+        List<ScoredQuad> distinct = this.quadClusterer.cluster(candidates);
+        this.detectionMetrics.recordQuads(candidates.size(), distinct.size());
+        log.debug("Merged {} quads into {} distinct candidates", candidates.size(), distinct.size());
+        return distinct.stream()
+                .map(ScoredQuad::getPoints)
+                .toArray(Point[][]::new);
+    }
+
+    private List<ScoredQuad> detectEarly(Algorithms algorithms, Mat image) {
+        long start = System.nanoTime();
+        Algorithms.Detection detection = this.detectionMetrics.record(
+                algorithms.detect(image, this.quadScorer, this.confidenceThreshold), System.nanoTime() - start);
+        List<ScoredQuad> quads = detection.getQuads();
+        if (detection.isConfident()) {
+            log.info("Grid found by {} with score {} after {} of {} variants",
+                    detection.getWinner().getAlgorithmName(), String.format("%.3f", detection.getWinnerScore()),
+                    detection.getCompleted().size(), detection.getVariants());
+        } else {
+            log.info("No variant passed confidence {}; keeping {} quads, best score {}",
+                    this.confidenceThreshold, quads.size(), String.format("%.3f", detection.getBestScore()));
+        }
+        return quads;
+    }
+
+    private List<ScoredQuad> score(Mat image, Point[][] quads) {
+        QuadScorer.EdgeMap edges = this.quadScorer.prepare(image);
+        return Arrays.stream(quads)
+                .map(quad -> new ScoredQuad(quad, this.quadScorer.score(edges, quad)))
+                .toList();
+    }
+
     private Set<String> processImagePoints(Mat image, ImageInfo imageInfo, Point[][] points) {
         return Arrays.stream(points)
                 .map(pointsArray -> this.processSingleImage(image, imageInfo, pointsArray))
@@ -0,0 +1,53 @@
+package luka.teum.image_service.util;
+
+import lombok.Getter;
+import luka.teum.image_service.data.PointBuffer;
+import luka.teum.image_service.data.TriangleBuffer;
+
+public class GeometryScratch {
+
+    private static final ThreadLocal<GeometryScratch> LOCAL = ThreadLocal.withInitial(GeometryScratch::new);
+
+    @Getter
+    private final PointBuffer corners = new PointBuffer();
+    @Getter
+    private final PointBuffer vertices = new PointBuffer();
+    @Getter
+    private final TriangleBuffer triangles = new TriangleBuffer();
+    long[] keys = new long[0];
+    int[] byX = new int[0];
+    int[] byY = new int[0];
+    int[] horizontal = new int[0];
+    int[] vertical = new int[0];
+    private boolean[] marks = new boolean[0];
+
+    // Buffers are owned by the calling thread and only grow, so a detection worker reuses them frame after frame.
+    public static GeometryScratch acquire() {
+        GeometryScratch scratch = LOCAL.get();
+        scratch.reset();
+        return scratch;
+    }
+
+    public void reset() {
+        this.corners.clear();
+        this.vertices.clear();
+        this.triangles.clear();
+    }
+
+    public boolean[] marks(int size) {
+        if (this.marks.length < size) {
+            this.marks = new boolean[size];
+        }
+        return this.marks;
+    }
+
+    void ensureCapacity(int size) {
+        if (this.keys.length < size) {
+            this.keys = new long[size];
+            this.byX = new int[size];
+            this.byY = new int[size];
+            this.horizontal = new int[size];
+            this.vertical = new int[size];
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package luka.teum.image_service.util;
+
+import luka.teum.image_service.data.PointBuffer;
+import luka.teum.image_service.data.RightTriangle;
+import luka.teum.image_service.data.TriangleBuffer;
+import org.opencv.core.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RightTriangleSearch {
+
+    public static final double AXIS_TOLERANCE = 5;
+
+    public List<RightTriangle> outerRightTriangle(Point[] points, double maxS, double minS) {
+        this.validateInput(points, maxS, minS);
+
+        GeometryScratch scratch = new GeometryScratch();
+        PointBuffer buffer = scratch.getCorners().load(points);
+        TriangleBuffer triangles = scratch.getTriangles();
+        this.search(scratch, buffer, maxS, minS, triangles);
+
+        List<RightTriangle> rightTriangles = new ArrayList<>(triangles.size());
+        for (int i = 0; i < triangles.size(); i++) {
+            rightTriangles.add(new RightTriangle(
+                    points[triangles.vertex(i, TriangleBuffer.HORIZONTAL)],
+                    points[triangles.vertex(i, TriangleBuffer.CORNER)],
+                    points[triangles.vertex(i, TriangleBuffer.VERTICAL)]));
+        }
+        return rightTriangles;
+    }
+
+    public void search(GeometryScratch scratch, PointBuffer points, double maxS, double minS, TriangleBuffer out) {
+        this.validateInput(maxS, minS);
+
+        out.clear();
+        int count = points.size();
+        if (count < 3) {
+            return;
+        }
+
+        scratch.ensureCapacity(count);
+        sortBy(points, true, scratch.keys, scratch.byX);
+        sortBy(points, false, scratch.keys, scratch.byY);
+        int[] horizontal = scratch.horizontal;
+        int[] vertical = scratch.vertical;
+
+        // A right triangle is a corner with one neighbour on its row and one on its column, so only
+        // points inside the two axis bands around each corner are paired.
+        for (int corner = 0; corner < count; corner++) {
+            int horizontalCount = neighbours(points, scratch.byY, false, corner, horizontal);
+            if (horizontalCount == 0) {
+                continue;
+            }
+            int verticalCount = neighbours(points, scratch.byX, true, corner, vertical);
+
+            float cx = points.x(corner);
+            float cy = points.y(corner);
+            for (int i = 0; i < horizontalCount; i++) {
+                float hx = points.x(horizontal[i]);
+                float hy = points.y(horizontal[i]);
+                for (int j = 0; j < verticalCount; j++) {
+                    float vx = points.x(vertical[j]);
+                    float vy = points.y(vertical[j]);
+                    double width = Math.max(cx, Math.max(hx, vx)) - Math.min(cx, Math.min(hx, vx));
+                    double height = Math.max(cy, Math.max(hy, vy)) - Math.min(cy, Math.min(hy, vy));
+                    double area = width * height / 2;
+                    if (area < maxS && area > minS) {
+                        out.add(horizontal[i], corner, vertical[j], area);
+                    }
+                }
+            }
+        }
+    }
+
+    private void validateInput(Point[] points, double maxS, double minS) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points array cannot be null");
+        }
+        this.validateInput(maxS, minS);
+        for (int i = 0; i < points.length; i++) {
+            if (points[i] == null) {
+                throw new IllegalArgumentException("Point at index " + i + " is null");
+            }
+        }
+    }
+
+    private void validateInput(double maxS, double minS) {
+        if (maxS <= minS) {
+            throw new IllegalArgumentException("maxS must be greater than minS");
+        }
+        if (minS < 0) {
+            throw new IllegalArgumentException("minS must be non-negative");
+        }
+    }
+
+    private static int neighbours(PointBuffer points, int[] sorted, boolean byX, int corner, int[] result) {
+        double value = coordinate(points, corner, byX);
+        double other = coordinate(points, corner, !byX);
+        int count = 0;
+        for (int k = firstAbove(points, sorted, byX, value - AXIS_TOLERANCE); k < points.size(); k++) {
+            int index = sorted[k];
+            if (coordinate(points, index, byX) >= value + AXIS_TOLERANCE) {
+                break;
+            }
+            if (Math.abs(coordinate(points, index, !byX) - other) >= AXIS_TOLERANCE) {
+                result[count++] = index;
+            }
+        }
+        return count;
+    }
+
+    private static int firstAbove(PointBuffer points, int[] sorted, boolean byX, double bound) {
+        int low = 0;
+        int high = points.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (coordinate(points, sorted[mid], byX) <= bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Packs an order-preserving form of the float coordinate above the point index so a primitive sort
+    // yields the permutation without boxing.
+    private static void sortBy(PointBuffer points, boolean byX, long[] keys, int[] sorted) {
+        int count = points.size();
+        for (int i = 0; i < count; i++) {
+            int bits = Float.floatToIntBits(byX ? points.x(i) : points.y(i));
+            bits ^= (bits >> 31) & Integer.MAX_VALUE;
+            keys[i] = ((long) bits << 32) | i;
+        }
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            sorted[i] = (int) keys[i];
+        }
+    }
+
+    private static double coordinate(PointBuffer points, int index, boolean x) {
+        return x ? points.x(index) : points.y(index);
+    }
+}
@@ -0,0 +1,108 @@
+package luka.teum.image_service.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Point;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlgorithmsTest extends GridImageTest {
+
+    @Test
+    void stopsAtFirstConfidentQuadAndCancelsTheRest() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            Algorithms algorithms = new Algorithms(List.of(
+                    new Algorithms.AlgorithmConfig("Slow", data -> {
+                        try {
+                            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                        }
+                        return GRID;
+                    }),
+                    new Algorithms.AlgorithmConfig("Fast", data -> GRID),
+                    new Algorithms.AlgorithmConfig("Queued", data -> GRID)
+            ), executor);
+
+            Algorithms.Detection detection = algorithms.detect(this.image, this.scorer, THRESHOLD);
+
+            assertTrue(detection.isConfident());
+            assertEquals("Fast", detection.getWinner().getAlgorithmName());
+            assertEquals(1, detection.getQuads().size());
+            assertArrayEquals(GRID, detection.getQuads().get(0).getPoints());
+            assertEquals(2, detection.getCancelled());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsScoredQuadsWhenNoneIsConfident() {
+        Point[] offset = quad(130, 130, 490, 490);
+        Algorithms algorithms = new Algorithms(List.of(
+                new Algorithms.AlgorithmConfig("Offset", data -> offset),
+                new Algorithms.AlgorithmConfig("Empty", data -> new Point[0])
+        ));
+
+        Algorithms.Detection detection = algorithms.detect(this.image, this.scorer, 1.01);
+
+        assertFalse(detection.isConfident());
+        assertEquals(0, detection.getCancelled());
+        assertEquals(1, detection.getQuads().size());
+        assertArrayEquals(offset, detection.getQuads().get(0).getPoints());
+    }
+
+    @Test
+    void reportsRejectedVariantsInsteadOfRunningThemOnTheCaller() {
+        // The only worker takes Busy and the only queue slot holds Queued, so Rejected has nowhere to go.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        AtomicReference<Thread> rejectedRanOn = new AtomicReference<>();
+        try {
+            Algorithms algorithms = new Algorithms(List.of(
+                    new Algorithms.AlgorithmConfig("Busy", data -> {
+                        sleep(200);
+                        return GRID;
+                    }),
+                    new Algorithms.AlgorithmConfig("Queued", data -> GRID),
+                    new Algorithms.AlgorithmConfig("Rejected", data -> {
+                        rejectedRanOn.set(Thread.currentThread());
+                        return GRID;
+                    })
+            ), executor);
+
+            Algorithms.AlgorithmResult[] results = algorithms.executeAlgorithms(this.image);
+
+            assertArrayEquals(GRID, results[0].getPoints());
+            assertArrayEquals(GRID, results[1].getPoints());
+            assertFalse(results[2].hasValidPoints());
+            assertTrue(results[2].getErrorMessage().contains("rejected"));
+            assertNull(rejectedRanOn.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package luka.teum.image_service.algorithm;
+
+import nu.pattern.OpenCV;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Point;
+import org.opencv.core.Scalar;
+import org.opencv.imgproc.Imgproc;
+
+abstract class GridImageTest {
+
+    static final double THRESHOLD = 0.75;
+    static final Point[] GRID = quad(100, 100, 460, 460);
+
+    static {
+        OpenCV.loadLocally();
+    }
+
+    protected final QuadScorer scorer = new QuadScorer(0.1);
+    protected Mat image;
+
+    @BeforeEach
+    void drawGrid() {
+        this.image = new Mat(600, 600, CvType.CV_8UC3, new Scalar(255, 255, 255));
+        for (int line = 0; line <= 9; line++) {
+            int offset = 100 + line * 40;
+            int thickness = line % 3 == 0 ? 4 : 2;
+            Imgproc.line(this.image, new Point(100, offset), new Point(460, offset), new Scalar(0, 0, 0), thickness);
+            Imgproc.line(this.image, new Point(offset, 100), new Point(offset, 460), new Scalar(0, 0, 0), thickness);
+        }
+    }
+
+    @AfterEach
+    void releaseImage() {
+        this.image.release();
+    }
+
+    static Point[] quad(double left, double top, double right, double bottom) {
+        return new Point[]{
+                new Point(left, top), new Point(right, top), new Point(left, bottom), new Point(right, bottom)};
+    }
+}
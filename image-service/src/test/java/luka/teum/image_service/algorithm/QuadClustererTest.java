@@ -0,0 +1,43 @@
+package luka.teum.image_service.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Point;
+
+import java.util.List;
+
+import static luka.teum.image_service.algorithm.GridImageTest.quad;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuadClustererTest {
+
+    private final QuadClusterer clusterer = new QuadClusterer(0.85, 0.05, 2);
+
+    @Test
+    void mergesNearIdenticalQuadsIntoOneCandidate() {
+        List<ScoredQuad> distinct = this.clusterer.cluster(List.of(
+                new ScoredQuad(quad(100, 100, 500, 500), 0.6),
+                new ScoredQuad(quad(102, 98, 503, 501), 0.6),
+                new ScoredQuad(quad(99, 101, 498, 499), 0.6)
+        ));
+
+        assertEquals(1, distinct.size());
+        assertEquals(3, distinct.get(0).getSupport());
+        assertEquals(0.6, distinct.get(0).getScore());
+        assertEquals(100.33, distinct.get(0).getPoints()[0].x, 0.01);
+        assertEquals(500.33, distinct.get(0).getPoints()[3].x, 0.01);
+    }
+
+    @Test
+    void keepsTopDistinctQuadsByScore() {
+        List<ScoredQuad> distinct = this.clusterer.cluster(List.of(
+                new ScoredQuad(quad(0, 0, 100, 100), 0.3),
+                new ScoredQuad(quad(100, 100, 500, 500), 0.7),
+                new ScoredQuad(quad(200, 200, 300, 300), 0.5),
+                new ScoredQuad(new Point[0], 0.9)
+        ));
+
+        assertEquals(2, distinct.size());
+        assertEquals(0.7, distinct.get(0).getScore());
+        assertEquals(0.5, distinct.get(1).getScore());
+    }
+}
@@ -0,0 +1,23 @@
+package luka.teum.image_service.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Point;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuadScorerTest extends GridImageTest {
+
+    @Test
+    void scoresGridQuadAboveOffsetAndSkewedQuads() {
+        QuadScorer.EdgeMap edges = this.scorer.prepare(this.image);
+
+        double grid = this.scorer.score(edges, GRID);
+        double offset = this.scorer.score(edges, quad(130, 130, 490, 490));
+        double skewed = this.scorer.score(edges, new Point[]{
+                new Point(100, 100), new Point(460, 160), new Point(100, 460), new Point(300, 400)});
+
+        assertTrue(grid >= THRESHOLD, "grid score " + grid);
+        assertTrue(offset < THRESHOLD, "offset score " + offset);
+        assertTrue(skewed < THRESHOLD, "skewed score " + skewed);
+    }
+}
@@ -0,0 +1,95 @@
+package luka.teum.image_service.util;
+
+import luka.teum.image_service.data.PointBuffer;
+import luka.teum.image_service.data.RightTriangle;
+import luka.teum.image_service.data.TriangleBuffer;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RightTriangleSearchTest {
+
+    private final RightTriangleSearch search = new RightTriangleSearch();
+
+    @Test
+    void findsSameTrianglesAsExhaustiveScan() {
+        Point[] points = jitteredGrid(8, 40, new Random(7));
+
+        List<RightTriangle> triangles = this.search.outerRightTriangle(points, Double.MAX_VALUE, 1000);
+
+        assertEquals(exhaustiveCount(points, 1000), triangles.size());
+        assertTrue(triangles.stream().allMatch(RightTriangle::isRight));
+        RightTriangle max = triangles.stream().max(RightTriangle::compareTo).orElseThrow();
+        assertArrayEquals(new double[]{0, 0, 280, 280},
+                new double[]{max.getX1(), max.getY1(), max.getX2(), max.getY2()}, 2.0);
+    }
+
+    @Test
+    void handlesHighResolutionCornerCounts() {
+        Point[] points = jitteredGrid(50, 30, new Random(11));
+
+        List<RightTriangle> triangles = this.search.outerRightTriangle(points, Double.MAX_VALUE, 500_000);
+
+        assertEquals(2500, points.length);
+        assertEquals(exhaustiveCount(points, 500_000), triangles.size());
+    }
+
+    @Test
+    void reusesScratchBuffersAcrossSearches() {
+        Point[] points = jitteredGrid(8, 40, new Random(7));
+        GeometryScratch scratch = GeometryScratch.acquire();
+        PointBuffer corners = scratch.getCorners().load(points);
+        TriangleBuffer triangles = scratch.getTriangles();
+
+        this.search.search(scratch, corners, Double.MAX_VALUE, 1000, triangles);
+        int found = triangles.size();
+        PointBuffer vertices = triangles.collectVertices(corners, scratch.getVertices(), scratch.marks(corners.size()));
+        this.search.search(scratch, vertices, Double.MAX_VALUE, 20000, triangles);
+
+        assertEquals(exhaustiveCount(points, 1000), found);
+        assertEquals(points.length, vertices.size());
+        assertEquals(exhaustiveCount(points, 20000), triangles.size());
+        Point[] quad = triangles.toPoints(triangles.maxArea(), vertices);
+        assertArrayEquals(new double[]{0, 0, 280, 280}, new double[]{quad[0].x, quad[0].y, quad[3].x, quad[3].y}, 2.0);
+    }
+
+    private static Point[] jitteredGrid(int size, double step, Random random) {
+        List<Point> points = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                points.add(new Point(column * step + random.nextDouble() * 2 - 1, row * step + random.nextDouble() * 2 - 1));
+            }
+        }
+        return points.toArray(new Point[0]);
+    }
+
+    private static long exhaustiveCount(Point[] points, double minS) {
+        long count = 0;
+        for (int corner = 0; corner < points.length; corner++) {
+            for (int h = 0; h < points.length; h++) {
+                if (!isAligned(points[corner].y, points[h].y, points[corner].x, points[h].x)) {
+                    continue;
+                }
+                for (int v = 0; v < points.length; v++) {
+                    if (isAligned(points[corner].x, points[v].x, points[corner].y, points[v].y)
+                            && new RightTriangle(points[h], points[corner], points[v]).getArea() > minS) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean isAligned(double a, double b, double otherA, double otherB) {
+        return Math.abs(a - b) < RightTriangleSearch.AXIS_TOLERANCE
+                && Math.abs(otherA - otherB) >= RightTriangleSearch.AXIS_TOLERANCE;
+    }
+}
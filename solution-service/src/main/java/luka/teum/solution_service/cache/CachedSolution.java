@@ -0,0 +1,29 @@
+package luka.teum.solution_service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedSolution {
+
+    public static final int UNKNOWN_COUNT = -1;
+    public static final CachedSolution UNSOLVABLE = new CachedSolution(null, 0);
+
+    private final byte[] cells;
+    private final int count;
+
+    public boolean isSolvable() {
+        return this.cells != null;
+    }
+
+    public int answer(int limit) {
+        if (this.count == UNKNOWN_COUNT) {
+            return limit <= 1 ? 1 : UNKNOWN_COUNT;
+        }
+        if (this.count < 2 || limit <= this.count) {
+            return Math.min(this.count, limit);
+        }
+        return UNKNOWN_COUNT;
+    }
+}
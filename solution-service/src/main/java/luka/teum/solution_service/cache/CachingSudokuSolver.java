@@ -0,0 +1,80 @@
+package luka.teum.solution_service.cache;
+
+import luka.teum.solution_service.solver.BudgetTracker;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+
+public class CachingSudokuSolver implements SudokuSolver {
+
+    private final SudokuSolver delegate;
+    private final SolutionCache cache;
+
+    public CachingSudokuSolver(SudokuSolver delegate, SolutionCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        if (limit <= 0 || !this.isCacheable(board)) {
+            return this.delegate.countSolutions(board, limit, tracker);
+        }
+
+        CanonicalForm form = CanonicalForm.of(board);
+        CachedSolution cached = this.cache.get(form.getKey());
+        if (cached != null) {
+            int found = cached.answer(limit);
+            if (found != CachedSolution.UNKNOWN_COUNT) {
+                if (cached.isSolvable()) {
+                    form.restore(cached.getCells(), board);
+                }
+                return found;
+            }
+        }
+
+        int found = this.delegate.countSolutions(board, limit, tracker);
+        if (found > 0) {
+            this.cache.put(form.getKey(), new CachedSolution(form.toCanonical(board), this.knownCount(found, limit, tracker)));
+        } else if (!tracker.isExceeded()) {
+            this.cache.put(form.getKey(), CachedSolution.UNSOLVABLE);
+        }
+        return found;
+    }
+
+    @Override
+    public boolean supportsSize(int size) {
+        return this.delegate.supportsSize(size);
+    }
+
+    private int knownCount(int found, int limit, BudgetTracker tracker) {
+        if (found >= 2) {
+            return 2;
+        }
+        if (found < limit && !tracker.isExceeded()) {
+            return found;
+        }
+        return CachedSolution.UNKNOWN_COUNT;
+    }
+
+    private boolean isCacheable(int[][] board) {
+        if (board == null || board.length != Solution.SUDOKU_SIZE) {
+            return false;
+        }
+        for (int[] row : board) {
+            if (row == null || row.length != Solution.SUDOKU_SIZE) {
+                return false;
+            }
+            for (int value : row) {
+                if (value < Solution.NO_SOLUTION || value > Solution.SUDOKU_SIZE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
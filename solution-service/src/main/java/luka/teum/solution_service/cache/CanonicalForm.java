@@ -0,0 +1,136 @@
+package luka.teum.solution_service.cache;
+
+import lombok.Getter;
+import messaging.Solution;
+
+import java.util.Arrays;
+
+public final class CanonicalForm {
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+
+    private static final int[][] TRANSFORMS = createTransforms();
+
+    @Getter
+    private final PuzzleKey key;
+    private final int[] transform;
+    private final int[] toCanonical;
+    private final int[] fromCanonical;
+
+    private CanonicalForm(int[] cells, int[] transform, int[] toCanonical) {
+        this.key = PuzzleKey.of(cells);
+        this.transform = transform;
+        this.toCanonical = toCanonical;
+        this.fromCanonical = new int[BOARD_SIZE + 1];
+        for (int digit = 0; digit <= BOARD_SIZE; digit++) {
+            this.fromCanonical[toCanonical[digit]] = digit;
+        }
+    }
+
+    public static CanonicalForm of(int[][] board) {
+        int[] cells = new int[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            cells[cell] = board[cell / BOARD_SIZE][cell % BOARD_SIZE];
+        }
+
+        int[] best = null;
+        int[] bestTransform = null;
+        int[] bestLabels = null;
+        int[] candidate = new int[CELL_COUNT];
+        int[] labels = new int[BOARD_SIZE + 1];
+
+        for (int[] transform : TRANSFORMS) {
+            if (relabel(cells, transform, candidate, labels, best)) {
+                best = candidate.clone();
+                bestTransform = transform;
+                bestLabels = labels.clone();
+            }
+        }
+        completeLabels(bestLabels);
+        return new CanonicalForm(best, bestTransform, bestLabels);
+    }
+
+    public byte[] toCanonical(int[][] solution) {
+        byte[] cells = new byte[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int source = this.transform[cell];
+            cells[cell] = (byte) this.toCanonical[solution[source / BOARD_SIZE][source % BOARD_SIZE]];
+        }
+        return cells;
+    }
+
+    public void restore(byte[] canonicalSolution, int[][] board) {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int target = this.transform[cell];
+            board[target / BOARD_SIZE][target % BOARD_SIZE] = this.fromCanonical[canonicalSolution[cell]];
+        }
+    }
+
+    private static boolean relabel(int[] cells, int[] transform, int[] candidate, int[] labels, int[] best) {
+        Arrays.fill(labels, NO_VALUE);
+        int nextLabel = 1;
+        boolean smaller = best == null;
+
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int value = cells[transform[cell]];
+            if (value != NO_VALUE && labels[value] == NO_VALUE) {
+                labels[value] = nextLabel++;
+            }
+            int label = labels[value];
+            if (!smaller) {
+                if (label > best[cell]) {
+                    return false;
+                }
+                smaller = label < best[cell];
+            }
+            candidate[cell] = label;
+        }
+        return smaller;
+    }
+
+    private static void completeLabels(int[] labels) {
+        boolean[] used = new boolean[BOARD_SIZE + 1];
+        for (int digit = 1; digit <= BOARD_SIZE; digit++) {
+            used[labels[digit]] = true;
+        }
+        int nextLabel = 1;
+        for (int digit = 1; digit <= BOARD_SIZE; digit++) {
+            if (labels[digit] != NO_VALUE) {
+                continue;
+            }
+            while (used[nextLabel]) {
+                nextLabel++;
+            }
+            labels[digit] = nextLabel;
+            used[nextLabel] = true;
+        }
+    }
+
+    private static int[][] createTransforms() {
+        int[][] permutations = {{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}};
+        int[][] transforms = new int[2 * permutations.length * permutations.length][];
+        int index = 0;
+
+        for (int transpose = 0; transpose < 2; transpose++) {
+            for (int[] bands : permutations) {
+                for (int[] stacks : permutations) {
+                    int[] transform = new int[CELL_COUNT];
+                    for (int row = 0; row < BOARD_SIZE; row++) {
+                        for (int column = 0; column < BOARD_SIZE; column++) {
+                            int sourceRow = bands[row / SUBSECTION_SIZE] * SUBSECTION_SIZE + row % SUBSECTION_SIZE;
+                            int sourceColumn = stacks[column / SUBSECTION_SIZE] * SUBSECTION_SIZE + column % SUBSECTION_SIZE;
+                            transform[row * BOARD_SIZE + column] = transpose == 0
+                                    ? sourceRow * BOARD_SIZE + sourceColumn
+                                    : sourceColumn * BOARD_SIZE + sourceRow;
+                        }
+                    }
+                    transforms[index++] = transform;
+                }
+            }
+        }
+        return transforms;
+    }
+}
@@ -0,0 +1,41 @@
+package luka.teum.solution_service.cache;
+
+import java.util.Arrays;
+
+public final class PuzzleKey {
+
+    private static final int BITS_PER_CELL = 4;
+    private static final int CELLS_PER_WORD = Long.SIZE / BITS_PER_CELL;
+
+    private final long[] words;
+    private final int hash;
+
+    private PuzzleKey(long[] words) {
+        this.words = words;
+        this.hash = Arrays.hashCode(words);
+    }
+
+    public static PuzzleKey of(int[] cells) {
+        long[] words = new long[(cells.length + CELLS_PER_WORD - 1) / CELLS_PER_WORD];
+        for (int i = 0; i < cells.length; i++) {
+            words[i / CELLS_PER_WORD] |= (long) cells[i] << ((i % CELLS_PER_WORD) * BITS_PER_CELL);
+        }
+        return new PuzzleKey(words);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PuzzleKey other)) {
+            return false;
+        }
+        return this.hash == other.hash && Arrays.equals(this.words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
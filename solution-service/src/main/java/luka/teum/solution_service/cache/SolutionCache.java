@@ -0,0 +1,63 @@
+package luka.teum.solution_service.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SolutionCache {
+
+    private final Map<PuzzleKey, CachedSolution> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SolutionCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PuzzleKey, CachedSolution> eldest) {
+                if (this.size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public CachedSolution get(PuzzleKey key) {
+        CachedSolution solution;
+        synchronized (this.entries) {
+            solution = this.entries.get(key);
+        }
+        if (solution == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return solution;
+    }
+
+    public void put(PuzzleKey key, CachedSolution solution) {
+        synchronized (this.entries) {
+            this.entries.put(key, solution);
+        }
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public double getHits() {
+        return this.hits.sum();
+    }
+
+    public double getMisses() {
+        return this.misses.sum();
+    }
+
+    public double getEvictions() {
+        return this.evictions.sum();
+    }
+}
@@ -0,0 +1,234 @@
+package luka.teum.solution_service.config;
+
+import lombok.Data;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.cache.CachingSudokuSolver;
+import luka.teum.solution_service.cache.SolutionCache;
+import luka.teum.solution_service.generator.PuzzleGenerator;
+import luka.teum.solution_service.generator.PuzzlePool;
+import luka.teum.solution_service.repair.GridRepairer;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolverType;
+import luka.teum.solution_service.solver.SudokuSolver;
+import luka.teum.solution_service.solver.bulk.BulkSudokuSolver;
+import luka.teum.solution_service.solver.bulk.CandidateKernel;
+import luka.teum.solution_service.solver.bulk.CandidateKernels;
+import messaging.solution.SolutionDifficulty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Data
+@Slf4j
+@Configuration
+@ConfigurationProperties("app.solver")
+public class SolverConfig {
+
+    private SolverType type = SolverType.BITMASK;
+    private SolveMode mode = SolveMode.UNIQUE;
+    private Budget budget = new Budget();
+    private Race race = new Race();
+    private Cache cache = new Cache();
+    private Repair repair = new Repair();
+    private Batch batch = new Batch();
+    private Stream stream = new Stream();
+    private Grading grading = new Grading();
+    private Generator generator = new Generator();
+    private Corpus corpus = new Corpus();
+
+    @Bean
+    public SudokuSolver sudokuSolver(SolutionCache solutionCache) {
+        log.info("Using sudoku solver: {}, cache enabled: {}", this.type, this.cache.isEnabled());
+        SudokuSolver solver = this.type.create();
+        if (this.cache.isEnabled()) {
+            solver = new CachingSudokuSolver(solver, solutionCache);
+        }
+        return solver;
+    }
+
+    @Bean
+    public SolutionCache solutionCache() {
+        return new SolutionCache(this.cache.getMaxSize());
+    }
+
+    @Bean
+    public MeterBinder solutionCacheMetrics(SolutionCache solutionCache) {
+        return registry -> {
+            FunctionCounter.builder("sudoku.solver.cache.hits", solutionCache, SolutionCache::getHits)
+                    .description("Solved-puzzle cache hits")
+                    .register(registry);
+            FunctionCounter.builder("sudoku.solver.cache.misses", solutionCache, SolutionCache::getMisses)
+                    .description("Solved-puzzle cache misses")
+                    .register(registry);
+            FunctionCounter.builder("sudoku.solver.cache.evictions", solutionCache, SolutionCache::getEvictions)
+                    .description("Solved-puzzle cache evictions")
+                    .register(registry);
+            Gauge.builder("sudoku.solver.cache.size", solutionCache, SolutionCache::size)
+                    .description("Solved-puzzle cache entries")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public SolveBudget solveBudget() {
+        log.info("Using solve budget: {} nodes, {} ms", this.budget.getMaxNodes(), this.budget.getMaxTimeMs());
+        return new SolveBudget(this.budget.getMaxNodes(), this.budget.getMaxTimeMs());
+    }
+
+    @Bean
+    public GridRepairer gridRepairer(SudokuSolver sudokuSolver, SolveBudget solveBudget) {
+        log.info("Using grid repair: top-{} classes, {} cells, {} edits, {} attempts",
+                this.repair.getTopK(), this.repair.getMaxCells(), this.repair.getMaxEdits(), this.repair.getMaxAttempts());
+        return new GridRepairer(sudokuSolver, solveBudget, this.repair.getTopK(), this.repair.getMaxCells(),
+                this.repair.getMaxEdits(), this.repair.getMaxAttempts());
+    }
+
+    @Bean
+    public DifficultyGrader difficultyGrader() {
+        log.info("Difficulty grading enabled: {}", this.grading.isEnabled());
+        return new DifficultyGrader();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PuzzlePool puzzlePool(DifficultyGrader difficultyGrader) {
+        List<SolutionDifficulty> difficulties = this.generator.isEnabled() ? this.generator.getDifficulties() : List.of();
+        return new PuzzlePool(new PuzzleGenerator(difficultyGrader), difficulties, this.generator.getPoolSize());
+    }
+
+    @Bean
+    public MeterBinder puzzlePoolMetrics(PuzzlePool puzzlePool) {
+        return registry -> {
+            for (SolutionDifficulty difficulty : this.generator.getDifficulties()) {
+                Gauge.builder("sudoku.generator.pool.size", puzzlePool, pool -> pool.size(difficulty))
+                        .description("Pre-generated puzzles ready to serve")
+                        .tag("difficulty", difficulty.name().toLowerCase())
+                        .register(registry);
+            }
+            FunctionCounter.builder("sudoku.generator.generated", puzzlePool, PuzzlePool::getGenerated)
+                    .description("Puzzles added to the pool")
+                    .register(registry);
+            FunctionCounter.builder("sudoku.generator.rejected", puzzlePool, PuzzlePool::getRejected)
+                    .description("Generated puzzles dropped because their pool was full or not configured")
+                    .register(registry);
+        };
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService solverExecutor() {
+        int threads = Math.max(1, this.race.getThreads());
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, this.race.getQueueCapacity())),
+                this.createThreadFactory(),
+                // Rejected candidates count as failed attempts; running them on the Kafka listener thread would
+                // hold up the remaining submissions and escape the race's cancellation.
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    public BulkSudokuSolver bulkSudokuSolver(SudokuSolver sudokuSolver) {
+        CandidateKernel kernel = CandidateKernels.create(this.batch.isVectorized());
+        log.info("Using bulk candidate kernel: {}, slab size {}, enabled: {}",
+                kernel.getClass().getSimpleName(), this.batch.getSlabSize(), this.batch.isBulk());
+        return new BulkSudokuSolver(kernel, sudokuSolver, this.batch.getSlabSize());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool batchSolverPool() {
+        int parallelism = Math.max(1, this.batch.getParallelism());
+        log.info("Using batch solver pool with parallelism {}", parallelism);
+        AtomicInteger counter = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Batch-Solver-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    private ThreadFactory createThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "Solver-Executor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Data
+    public static class Budget {
+        private long maxNodes = SolveBudget.NO_LIMIT;
+        private long maxTimeMs = SolveBudget.NO_LIMIT;
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxSize = 10_000;
+    }
+
+    @Data
+    public static class Repair {
+        private int topK = 3;
+        private int maxCells = 12;
+        private int maxEdits = 3;
+        private int maxAttempts = 64;
+    }
+
+    @Data
+    public static class Batch {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int window = 1024;
+        private boolean bulk = false;
+        private int slabSize = 256;
+        private boolean vectorized = true;
+    }
+
+    @Data
+    public static class Stream {
+        private long sessionTtlMs = 5 * 60 * 1000;
+        private long sweepIntervalMs = 10 * 1000;
+    }
+
+    @Data
+    public static class Grading {
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Generator {
+        private boolean enabled = true;
+        private int poolSize = 32;
+        private List<SolutionDifficulty> difficulties = List.of(
+                SolutionDifficulty.EASY, SolutionDifficulty.MEDIUM, SolutionDifficulty.HARD, SolutionDifficulty.EXPERT);
+    }
+
+    @Data
+    public static class Corpus {
+        private String directory = "";
+    }
+
+    @Data
+    public static class Race {
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 64;
+    }
+}
@@ -0,0 +1,69 @@
+package luka.teum.solution_service.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.config.SolverConfig;
+import luka.teum.solution_service.corpus.PuzzleCorpus;
+import luka.teum.solution_service.processing.BatchSolveProcessing;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/solutions")
+public class BatchSolveController {
+
+    private final BatchSolveProcessing batchSolveProcessing;
+    private final Path corpusDirectory;
+
+    public BatchSolveController(BatchSolveProcessing batchSolveProcessing, SolverConfig solverConfig) {
+        this.batchSolveProcessing = batchSolveProcessing;
+        String directory = solverConfig.getCorpus().getDirectory();
+        this.corpusDirectory = directory == null || directory.isBlank()
+                ? null
+                : Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.TEXT_PLAIN_VALUE, produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> solveBatch(InputStream puzzles) {
+        StreamingResponseBody body = output -> {
+            long count = this.batchSolveProcessing.solve(puzzles, output);
+            log.info("Streamed batch results for {} puzzles", count);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body);
+    }
+
+    @PostMapping(value = "/batch/corpus/{name}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> solveCorpus(@PathVariable String name,
+                                                             @RequestParam(defaultValue = "0") long from,
+                                                             @RequestParam(required = false) Long to) {
+        Path file = this.corpusDirectory == null ? null : this.corpusDirectory.resolve(name).normalize();
+        if (file == null || !file.startsWith(this.corpusDirectory) || !Files.isRegularFile(file)) {
+            return ResponseEntity.notFound().build();
+        }
+        long end = to == null ? Long.MAX_VALUE : to;
+        if (from < 0 || end < from) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = output -> {
+            try (PuzzleCorpus corpus = PuzzleCorpus.open(file)) {
+                long count = this.batchSolveProcessing.solve(corpus, from, end, output);
+                log.info("Streamed corpus results for {} puzzles from {}", count, corpus);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body);
+    }
+}
@@ -0,0 +1,71 @@
+package luka.teum.solution_service.controller;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.generator.GeneratedPuzzle;
+import luka.teum.solution_service.generator.PuzzlePool;
+import messaging.solution.SolutionDifficulty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/puzzles")
+public class PuzzleController {
+
+    private final PuzzlePool puzzlePool;
+
+    public PuzzleController(PuzzlePool puzzlePool) {
+        this.puzzlePool = puzzlePool;
+    }
+
+    @GetMapping
+    public ResponseEntity<PuzzleResponse> getPuzzle(@RequestParam(defaultValue = "medium") String difficulty) {
+        SolutionDifficulty target = Arrays.stream(SolutionDifficulty.values())
+                .filter(value -> value.name().equals(difficulty.toUpperCase(Locale.ROOT)))
+                .findFirst()
+                .orElse(null);
+        if (target == null || !this.puzzlePool.supports(target)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return this.puzzlePool.take(target)
+                .map(puzzle -> ResponseEntity.ok(this.toResponse(puzzle)))
+                .orElseGet(() -> {
+                    log.warn("Puzzle pool for {} is empty", target);
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                });
+    }
+
+    private PuzzleResponse toResponse(GeneratedPuzzle puzzle) {
+        return new PuzzleResponse(format(puzzle.getPuzzle()), format(puzzle.getSolution()),
+                puzzle.getGrade().getDifficulty(), puzzle.getGrade().getRating(), puzzle.getClues());
+    }
+
+    private static String format(int[][] digits) {
+        StringBuilder line = new StringBuilder(digits.length * digits.length);
+        for (int[] row : digits) {
+            for (int value : row) {
+                line.append((char) ('0' + value));
+            }
+        }
+        return line.toString();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PuzzleResponse {
+        private final String puzzle;
+        private final String solution;
+        private final SolutionDifficulty difficulty;
+        private final double rating;
+        private final int clues;
+    }
+}
@@ -0,0 +1,140 @@
+package luka.teum.solution_service.corpus;
+
+import lombok.Getter;
+import messaging.Solution;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class PuzzleCorpus implements Closeable {
+
+    public static final int MAGIC = 0x53444B43;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int CELL_COUNT = Solution.CELL_COUNT;
+    public static final int RECORD_SIZE = CELL_COUNT + 1;
+
+    public static final int FLAG_UNIQUE = 1;
+    public static final int FLAG_SOLVED = 1 << 1;
+    public static final int FLAG_INVALID = 1 << 2;
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final long DEFAULT_SEGMENT_BYTES = 1L << 30;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int recordsPerSegment;
+    @Getter
+    private final long size;
+
+    private PuzzleCorpus(Path path, long segmentBytes) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = this.channel.read(header, header.position());
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("Not a puzzle corpus: " + path);
+            }
+            short version = header.getShort();
+            short recordSize = header.getShort();
+            if (version != VERSION || recordSize != RECORD_SIZE) {
+                throw new IOException("Unsupported corpus version " + version + " with record size " + recordSize);
+            }
+            this.size = header.getLong();
+            if (HEADER_SIZE + this.size * RECORD_SIZE > this.channel.size()) {
+                throw new IOException("Corpus " + path + " is truncated: expected " + this.size + " records");
+            }
+
+            this.recordsPerSegment = (int) Math.max(1, segmentBytes / RECORD_SIZE);
+            int segmentCount = (int) ((this.size + this.recordsPerSegment - 1) / this.recordsPerSegment);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int segment = 0; segment < segmentCount; segment++) {
+                long first = (long) segment * this.recordsPerSegment;
+                long records = Math.min(this.recordsPerSegment, this.size - first);
+                this.segments[segment] = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    public static PuzzleCorpus open(Path path) throws IOException {
+        return new PuzzleCorpus(path, DEFAULT_SEGMENT_BYTES);
+    }
+
+    static PuzzleCorpus open(Path path, long segmentBytes) throws IOException {
+        return new PuzzleCorpus(path, segmentBytes);
+    }
+
+    public int read(long index, int[][] board) {
+        MappedByteBuffer segment = this.segmentOf(index);
+        int offset = this.offsetOf(index);
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            board[cell / BOARD_SIZE][cell % BOARD_SIZE] = segment.get(offset + cell);
+        }
+        return segment.get(offset + CELL_COUNT);
+    }
+
+    public int read(long index, byte[] cells) {
+        MappedByteBuffer segment = this.segmentOf(index);
+        int offset = this.offsetOf(index);
+        segment.get(offset, cells, 0, CELL_COUNT);
+        return segment.get(offset + CELL_COUNT);
+    }
+
+    public int flags(long index) {
+        return this.segmentOf(index).get(this.offsetOf(index) + CELL_COUNT);
+    }
+
+    public long scan(long from, long to, RecordVisitor visitor) {
+        int[][] board = new int[BOARD_SIZE][BOARD_SIZE];
+        long end = Math.min(to, this.size);
+        long index = Math.max(0, from);
+        for (; index < end; index++) {
+            int flags = this.read(index, board);
+            if (!visitor.visit(index, board, flags)) {
+                return index + 1;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "PuzzleCorpus(" + this.path + ", " + this.size + " records)";
+    }
+
+    private MappedByteBuffer segmentOf(long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Record " + index + " outside 0.." + (this.size - 1));
+        }
+        return this.segments[(int) (index / this.recordsPerSegment)];
+    }
+
+    private int offsetOf(long index) {
+        return (int) (index % this.recordsPerSegment) * RECORD_SIZE;
+    }
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        boolean visit(long index, int[][] board, int flags);
+    }
+}
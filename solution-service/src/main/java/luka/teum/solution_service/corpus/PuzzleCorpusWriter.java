@@ -0,0 +1,92 @@
+package luka.teum.solution_service.corpus;
+
+import messaging.Solution;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class PuzzleCorpusWriter implements Closeable {
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int BUFFER_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * PuzzleCorpus.RECORD_SIZE);
+    private long count;
+
+    public PuzzleCorpusWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.writeHeader();
+        this.channel.position(PuzzleCorpus.HEADER_SIZE);
+    }
+
+    public void append(int[][] board, int flags) throws IOException {
+        validate(board);
+        if (this.buffer.remaining() < PuzzleCorpus.RECORD_SIZE) {
+            this.flush();
+        }
+        for (int[] row : board) {
+            for (int value : row) {
+                this.buffer.put((byte) value);
+            }
+        }
+        this.buffer.put((byte) flags);
+        this.count++;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+            this.writeHeader();
+            this.channel.force(false);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private static void validate(int[][] board) {
+        if (board == null || board.length != BOARD_SIZE) {
+            throw new IllegalArgumentException("Corpus records must be " + BOARD_SIZE + "x" + BOARD_SIZE + " grids");
+        }
+        for (int[] row : board) {
+            if (row == null || row.length != BOARD_SIZE) {
+                throw new IllegalArgumentException("Corpus records must be " + BOARD_SIZE + "x" + BOARD_SIZE + " grids");
+            }
+            for (int value : row) {
+                if (value < Solution.NO_SOLUTION || value > BOARD_SIZE) {
+                    throw new IllegalArgumentException("Cell value out of range: " + value);
+                }
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(PuzzleCorpus.HEADER_SIZE)
+                .putInt(PuzzleCorpus.MAGIC)
+                .putShort(PuzzleCorpus.VERSION)
+                .putShort((short) PuzzleCorpus.RECORD_SIZE)
+                .putLong(this.count);
+        header.flip();
+        while (header.hasRemaining()) {
+            this.channel.write(header, PuzzleCorpus.HEADER_SIZE - header.remaining());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package luka.teum.solution_service.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import luka.teum.solution_service.solver.DifficultyGrade;
+
+@Getter
+@AllArgsConstructor
+public class GeneratedPuzzle {
+
+    private final int[][] puzzle;
+    private final int[][] solution;
+    private final DifficultyGrade grade;
+    private final int clues;
+}
@@ -0,0 +1,107 @@
+package luka.teum.solution_service.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.DifficultyGrade;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import messaging.solution.SolutionDifficulty;
+
+import java.util.Random;
+
+@Slf4j
+public class PuzzleGenerator {
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = Solution.CELL_COUNT;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+    private static final int UNIQUE = 1;
+    private static final int UNIQUENESS_LIMIT = 2;
+
+    private final SudokuSolver counter = new BitmaskSudokuSolver();
+    private final DifficultyGrader grader;
+
+    public PuzzleGenerator(DifficultyGrader grader) {
+        this.grader = grader;
+    }
+
+    public GeneratedPuzzle generate(SolutionDifficulty target, Random random) {
+        int[][] solution = this.randomGrid(random);
+        int[][] puzzle = copyOf(solution);
+        int[][] scratch = new int[BOARD_SIZE][BOARD_SIZE];
+        int clues = CELL_COUNT;
+
+        for (int cell : shuffledCells(random)) {
+            int row = cell / BOARD_SIZE;
+            int column = cell % BOARD_SIZE;
+            int value = puzzle[row][column];
+            puzzle[row][column] = NO_VALUE;
+
+            copyInto(puzzle, scratch);
+            boolean keep = this.counter.countSolutions(scratch, UNIQUENESS_LIMIT) != UNIQUE;
+            if (!keep && target != SolutionDifficulty.EXTREME) {
+                keep = this.grader.grade(puzzle).getDifficulty().compareTo(target) > 0;
+            }
+            if (keep) {
+                puzzle[row][column] = value;
+            } else {
+                clues--;
+            }
+        }
+
+        DifficultyGrade grade = this.grader.grade(puzzle);
+        if (grade.getDifficulty() != target) {
+            log.trace("Generated {} puzzle with {} clues while targeting {}", grade.getDifficulty(), clues, target);
+        }
+        return new GeneratedPuzzle(puzzle, solution, grade, clues);
+    }
+
+    private int[][] randomGrid(Random random) {
+        int[][] grid = new int[BOARD_SIZE][BOARD_SIZE];
+        for (int box = 0; box < SUBSECTION_SIZE; box++) {
+            int[] digits = shuffled(BOARD_SIZE, random);
+            int start = box * SUBSECTION_SIZE;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                grid[start + i / SUBSECTION_SIZE][start + i % SUBSECTION_SIZE] = digits[i] + 1;
+            }
+        }
+        if (!this.counter.solve(grid)) {
+            throw new IllegalStateException("Independent diagonal boxes must always complete");
+        }
+        return grid;
+    }
+
+    private static int[] shuffledCells(Random random) {
+        return shuffled(CELL_COUNT, random);
+    }
+
+    private static int[] shuffled(int count, Random random) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static void copyInto(int[][] source, int[][] target) {
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            System.arraycopy(source[row], 0, target[row], 0, BOARD_SIZE);
+        }
+    }
+
+    private static int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
+        }
+        return copy;
+    }
+}
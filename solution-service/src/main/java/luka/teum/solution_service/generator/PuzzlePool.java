@@ -0,0 +1,131 @@
+package luka.teum.solution_service.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import messaging.solution.SolutionDifficulty;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class PuzzlePool {
+
+    private static final long IDLE_WAIT_MS = TimeUnit.SECONDS.toMillis(1);
+
+    private final PuzzleGenerator generator;
+    private final Map<SolutionDifficulty, BlockingQueue<GeneratedPuzzle>> pools = new EnumMap<>(SolutionDifficulty.class);
+    private final int capacity;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Object refillSignal = new Object();
+    private volatile Thread worker;
+
+    public PuzzlePool(PuzzleGenerator generator, List<SolutionDifficulty> difficulties, int capacity) {
+        this.generator = generator;
+        this.capacity = Math.max(1, capacity);
+        for (SolutionDifficulty difficulty : difficulties) {
+            if (difficulty != SolutionDifficulty.UNKNOWN) {
+                this.pools.put(difficulty, new ArrayBlockingQueue<>(this.capacity));
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (this.worker != null || this.pools.isEmpty()) {
+            return;
+        }
+        log.info("Starting puzzle generator for {} with {} puzzles each", this.pools.keySet(), this.capacity);
+        Thread thread = new Thread(this::refill, "Puzzle-Generator");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        this.worker = thread;
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        Thread thread = this.worker;
+        this.worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public Optional<GeneratedPuzzle> take(SolutionDifficulty difficulty) {
+        BlockingQueue<GeneratedPuzzle> pool = this.pools.get(difficulty);
+        GeneratedPuzzle puzzle = pool != null ? pool.poll() : null;
+        if (puzzle != null) {
+            synchronized (this.refillSignal) {
+                this.refillSignal.notifyAll();
+            }
+        }
+        return Optional.ofNullable(puzzle);
+    }
+
+    public boolean supports(SolutionDifficulty difficulty) {
+        return this.pools.containsKey(difficulty);
+    }
+
+    public int size(SolutionDifficulty difficulty) {
+        BlockingQueue<GeneratedPuzzle> pool = this.pools.get(difficulty);
+        return pool != null ? pool.size() : 0;
+    }
+
+    public long getGenerated() {
+        return this.generated.get();
+    }
+
+    public long getRejected() {
+        return this.rejected.get();
+    }
+
+    private void refill() {
+        while (this.worker == Thread.currentThread() && !Thread.currentThread().isInterrupted()) {
+            SolutionDifficulty target = this.emptiest();
+            if (target == null) {
+                this.awaitDemand();
+                continue;
+            }
+            try {
+                GeneratedPuzzle puzzle = this.generator.generate(target, ThreadLocalRandom.current());
+                BlockingQueue<GeneratedPuzzle> pool = this.pools.get(puzzle.getGrade().getDifficulty());
+                if (pool != null && pool.offer(puzzle)) {
+                    this.generated.incrementAndGet();
+                } else {
+                    this.rejected.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                log.error("Puzzle generation failed for {}: {}", target, e.getMessage(), e);
+                this.awaitDemand();
+            }
+        }
+        log.info("Puzzle generator stopped");
+    }
+
+    private SolutionDifficulty emptiest() {
+        SolutionDifficulty emptiest = null;
+        int smallest = this.capacity;
+        for (Map.Entry<SolutionDifficulty, BlockingQueue<GeneratedPuzzle>> entry : this.pools.entrySet()) {
+            if (entry.getValue().size() < smallest) {
+                smallest = entry.getValue().size();
+                emptiest = entry.getKey();
+            }
+        }
+        return emptiest;
+    }
+
+    private void awaitDemand() {
+        synchronized (this.refillSignal) {
+            try {
+                this.refillSignal.wait(IDLE_WAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
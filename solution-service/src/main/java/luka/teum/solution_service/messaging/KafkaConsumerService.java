@@ -1,8 +1,9 @@
 package luka.teum.solution_service.messaging;
 
 import lombok.extern.slf4j.Slf4j;
-import luka.teum.solution_service.solver.SudokuSolver;
-import messaging.Solution;
+import luka.teum.solution_service.processing.SolutionProcessing;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
 import messaging.TelegramInfo;
 import messaging.solution.SolutionsInfo;
 import messaging.solution.SolutionsOneInfo;
@@ -11,20 +12,22 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class KafkaConsumerService {
 
     private final KafkaProducerService kafkaProducerService;
-    private final SudokuSolver solver;
+    private final SolutionProcessing solutionProcessing;
 
-    public KafkaConsumerService(KafkaProducerService kafkaProducerService) {
+    public KafkaConsumerService(KafkaProducerService kafkaProducerService, SolutionProcessing solutionProcessing) {
         this.kafkaProducerService = kafkaProducerService;
-        this.solver = new SudokuSolver();
+        this.solutionProcessing = solutionProcessing;
     }
 
     @KafkaListener(
@@ -41,19 +44,21 @@ public class KafkaConsumerService {
         log.debug("Image details: {}", solutionsInfo);
 
         try {
-            Optional<Solution> solution = solutionsInfo.getSolutions().stream()
-                    .map(solver::solve)
-                    .filter(Solution::isSolved)
-                    .findAny();
+            SolveResult result = solutionProcessing.solveFirst(solutionsInfo.getSolutions());
+            SolutionsOneInfo answer = this.buildSolutionONeInfo(result, 0, 1, solutionsInfo.getTelegramInfo());
+            kafkaProducerService.sendSudokuSolutionSync(answer);
 
-            if (solution.isEmpty()) {
-                SolutionsOneInfo answer = this.buildSolutionONeInfo(new Solution(), solutionsInfo.getTelegramInfo());
-                kafkaProducerService.sendSudokuSolutionSync(answer);
-                log.debug("Failed processed solutions: {}", solutionsInfo.getSolutions().size());
+            if (result.isSolved()) {
+                log.debug("Successfully processed solutions: {}. Uniqueness: {}, repaired cells: {}, nodes: {}, backtracks: {}",
+                        solutionsInfo.getSolutions().size(), result.getUniqueness(), result.getRepairedCells(),
+                        result.getNodes(), result.getBacktracks());
+            } else if (result.getStatus() == SolveStatus.BUDGET_EXCEEDED) {
+                log.warn("Solve budget exceeded for solutions: {}. Nodes: {}, time: {} ms",
+                        solutionsInfo.getSolutions().size(), result.getNodes(),
+                        TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()));
             } else {
-                SolutionsOneInfo answer = this.buildSolutionONeInfo(solution.get(), solutionsInfo.getTelegramInfo());
-                kafkaProducerService.sendSudokuSolutionSync(answer);
-                log.debug("Successfully processed solutions: {}", solution.get().isSolved());
+                log.debug("Failed processed solutions: {}. Status: {}, reason: {}",
+                        solutionsInfo.getSolutions().size(), result.getStatus(), result.getReason());
             }
             ack.acknowledge();
         } catch (Exception e) {
@@ -71,14 +76,55 @@ public class KafkaConsumerService {
                                     @Header(KafkaHeaders.RECEIVED_PARTITION) Integer partition,
                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
                                     Acknowledgment ack) {
+        log.info("Received single solution request. Key: {}, Partition: {}, Topic: {}",
+                key, partition, topic);
+        log.debug("Solution details: {}", solutionsOneInfo);
 
+        try {
+            Optional<SolveResult> result = solutionProcessing.solveIncrementally(solutionsOneInfo);
+            if (result.isPresent()) {
+                SolutionsOneInfo answer = this.buildSolutionONeInfo(result.get(), solutionsOneInfo.getSolutionId(),
+                        solutionsOneInfo.getCountSolution(), solutionsOneInfo.getTelegramInfo());
+                kafkaProducerService.sendSudokuSolutionSync(answer);
+                log.debug("Answered after solution {} of {}. Status: {}, uniqueness: {}",
+                        solutionsOneInfo.getSolutionId(), solutionsOneInfo.getCountSolution(),
+                        result.get().getStatus(), result.get().getUniqueness());
+            } else {
+                log.debug("Waiting for more solutions after {} of {}",
+                        solutionsOneInfo.getSolutionId(), solutionsOneInfo.getCountSolution());
+            }
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("Error processing solution: {} of {}. Error: {}",
+                    solutionsOneInfo.getSolutionId(), solutionsOneInfo.getCountSolution(), e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.solver.stream.sweep-interval-ms:10000}")
+    public void answerExpiredSessions() {
+        for (SolutionProcessing.ExpiredSession session : solutionProcessing.expireSessions()) {
+            try {
+                SolutionsOneInfo answer = this.buildSolutionONeInfo(session.getResult(), session.getReceived() - 1,
+                        session.getExpected(), session.getTelegramInfo());
+                kafkaProducerService.sendSudokuSolutionSync(answer);
+                log.info("Answered expired session after {} of {} grids. Status: {}",
+                        session.getReceived(), session.getExpected(), session.getResult().getStatus());
+            } catch (Exception e) {
+                log.error("Error answering expired session after {} of {} grids. Error: {}",
+                        session.getReceived(), session.getExpected(), e.getMessage(), e);
+            }
+        }
     }
 
-    private SolutionsOneInfo buildSolutionONeInfo(Solution solution, TelegramInfo telegramInfo) {
+    private SolutionsOneInfo buildSolutionONeInfo(SolveResult result, Integer solutionId, Integer countSolution,
+                                                  TelegramInfo telegramInfo) {
         return SolutionsOneInfo.builder()
-                .solution(solution)
-                .solutionId(0)
-                .countSolution(1)
+                .solution(result.getSolution())
+                .uniqueness(result.getUniqueness())
+                .repairedCells(result.getRepairedCells())
+                .difficulty(result.getGrade() != null ? result.getGrade().getDifficulty() : null)
+                .solutionId(solutionId)
+                .countSolution(countSolution)
                 .telegramInfo(telegramInfo)
                 .build();
     }
@@ -0,0 +1,116 @@
+package luka.teum.solution_service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import luka.teum.solution_service.solver.DifficultyGrade;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import messaging.solution.SolutionDifficulty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SolverMetrics {
+
+    private static final String STATUS_TAG = "status";
+    private static final String DIFFICULTY_TAG = "difficulty";
+
+    private final SolveBudget budget;
+    private final Map<SolveStatus, DistributionSummary> nodes = new EnumMap<>(SolveStatus.class);
+    private final Map<SolveStatus, DistributionSummary> usage = new EnumMap<>(SolveStatus.class);
+    private final Map<SolveStatus, Timer> time = new EnumMap<>(SolveStatus.class);
+    private final Map<SolveStatus, DistributionSummary> backtracks = new EnumMap<>(SolveStatus.class);
+    private final Map<SolveStatus, DistributionSummary> propagations = new EnumMap<>(SolveStatus.class);
+    private final Map<SolveStatus, Counter> outcomes = new EnumMap<>(SolveStatus.class);
+    private final Map<SolutionDifficulty, Timer> grading = new EnumMap<>(SolutionDifficulty.class);
+    private final DistributionSummary candidates;
+
+    public SolverMetrics(MeterRegistry meterRegistry, SolveBudget budget) {
+        this.budget = budget;
+        for (SolveStatus status : SolveStatus.values()) {
+            String tag = status.name().toLowerCase();
+            this.nodes.put(status, DistributionSummary.builder("sudoku.solver.budget.nodes")
+                    .description("Search nodes used by one solve attempt")
+                    .baseUnit("nodes")
+                    .tag(STATUS_TAG, tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.usage.put(status, DistributionSummary.builder("sudoku.solver.budget.usage")
+                    .description("Share of the solve budget used by one attempt")
+                    .tag(STATUS_TAG, tag)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1.0)
+                    .register(meterRegistry));
+            this.time.put(status, Timer.builder("sudoku.solver.budget.time")
+                    .description("Wall-clock time used by one solve attempt")
+                    .tag(STATUS_TAG, tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.backtracks.put(status, DistributionSummary.builder("sudoku.solver.backtracks")
+                    .description("Dead ends abandoned by one solve attempt")
+                    .baseUnit("nodes")
+                    .tag(STATUS_TAG, tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.propagations.put(status, DistributionSummary.builder("sudoku.solver.propagations")
+                    .description("Forced placements and logic steps made by one solve attempt")
+                    .baseUnit("steps")
+                    .tag(STATUS_TAG, tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.outcomes.put(status, Counter.builder("sudoku.solver.outcomes")
+                    .description("Solve attempts by final status")
+                    .tag(STATUS_TAG, tag)
+                    .register(meterRegistry));
+        }
+        this.candidates = DistributionSummary.builder("sudoku.solver.request.candidates")
+                .description("Candidate grids received for one solve request")
+                .baseUnit("grids")
+                .register(meterRegistry);
+        for (SolutionDifficulty difficulty : SolutionDifficulty.values()) {
+            this.grading.put(difficulty, Timer.builder("sudoku.solver.grading.time")
+                    .description("Wall-clock time used to grade one puzzle")
+                    .tag(DIFFICULTY_TAG, difficulty.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public SolveResult record(SolveResult result) {
+        SolveStatus status = result.getStatus();
+        this.nodes.get(status).record(result.getNodes());
+        this.time.get(status).record(result.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        this.usage.get(status).record(this.usage(result));
+        this.backtracks.get(status).record(result.getBacktracks());
+        this.propagations.get(status).record(result.getPropagations());
+        this.outcomes.get(status).increment();
+        return result;
+    }
+
+    public void recordCandidates(int count) {
+        this.candidates.record(count);
+    }
+
+    public DifficultyGrade recordGrade(DifficultyGrade grade, long elapsedNanos) {
+        this.grading.get(grade.getDifficulty()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return grade;
+    }
+
+    private double usage(SolveResult result) {
+        double usage = 0;
+        if (this.budget.getMaxNodes() > SolveBudget.NO_LIMIT) {
+            usage = (double) result.getNodes() / this.budget.getMaxNodes();
+        }
+        if (this.budget.getMaxTimeMs() > SolveBudget.NO_LIMIT) {
+            double timeMs = result.getElapsedNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            usage = Math.max(usage, timeMs / this.budget.getMaxTimeMs());
+        }
+        return Math.min(usage, 1.0);
+    }
+}
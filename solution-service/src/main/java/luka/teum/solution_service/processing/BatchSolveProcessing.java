@@ -0,0 +1,288 @@
+package luka.teum.solution_service.processing;
+
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.config.SolverConfig;
+import luka.teum.solution_service.corpus.PuzzleCorpus;
+import luka.teum.solution_service.metrics.SolverMetrics;
+import luka.teum.solution_service.solver.Scratch;
+import luka.teum.solution_service.solver.ScratchPool;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import luka.teum.solution_service.solver.SudokuSolver;
+import luka.teum.solution_service.solver.bulk.BulkSudokuSolver;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class BatchSolveProcessing {
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int MIN_CORPUS_CHUNK = 256;
+    private static final String MALFORMED_LINE = "Puzzle must be " + CELL_COUNT + " digits or dots";
+    private static final String INVALID_RECORD = "Corpus record is flagged invalid";
+
+    private final SudokuSolver solver;
+    private final SolveBudget budget;
+    private final SolveMode mode;
+    private final ForkJoinPool batchSolverPool;
+    private final SolverMetrics solverMetrics;
+    private final int window;
+    private final BulkSudokuSolver bulkSolver;
+    private final int chunkSize;
+    private final int corpusChunk;
+    private final ScratchPool<RecordBuffer> recordBuffers;
+
+    public BatchSolveProcessing(SudokuSolver solver, BulkSudokuSolver bulkSolver, SolveBudget budget,
+                                SolverConfig solverConfig, ForkJoinPool batchSolverPool, SolverMetrics solverMetrics) {
+        this.solver = solver;
+        this.bulkSolver = solverConfig.getBatch().isBulk() ? bulkSolver : null;
+        this.chunkSize = this.bulkSolver != null ? Math.max(1, solverConfig.getBatch().getSlabSize()) : 1;
+        this.corpusChunk = Math.max(this.chunkSize, MIN_CORPUS_CHUNK);
+        this.recordBuffers = new ScratchPool<>(() -> new RecordBuffer(this.corpusChunk));
+        this.budget = budget;
+        this.mode = solverConfig.getMode();
+        this.batchSolverPool = batchSolverPool;
+        this.solverMetrics = solverMetrics;
+        this.window = Math.max(1, solverConfig.getBatch().getWindow());
+    }
+
+    public long solve(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.US_ASCII));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.US_ASCII));
+        Deque<ForkJoinTask<String>> pending = new ArrayDeque<>(this.window);
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<String> chunk = new ArrayList<>(this.chunkSize);
+        long count = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String puzzle = line.trim();
+                if (puzzle.isEmpty()) {
+                    continue;
+                }
+                count++;
+                chunk.add(puzzle);
+                boolean idle = !reader.ready();
+                if (chunk.size() >= this.chunkSize || idle) {
+                    this.submit(pending, count - chunk.size(), chunk, aborted);
+                    chunk = new ArrayList<>(this.chunkSize);
+                    if (pending.size() >= this.window) {
+                        writer.write(pending.poll().join());
+                    }
+                }
+                if (idle) {
+                    this.drainCompleted(pending, writer);
+                    writer.flush();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                this.submit(pending, count - chunk.size(), chunk, aborted);
+            }
+            while (!pending.isEmpty()) {
+                writer.write(pending.poll().join());
+            }
+            writer.flush();
+            log.debug("Solved batch of {} puzzles", count);
+            return count;
+        } finally {
+            this.abort(pending, aborted);
+        }
+    }
+
+    public long solve(PuzzleCorpus corpus, long from, long to, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.US_ASCII));
+        Deque<ForkJoinTask<String>> pending = new ArrayDeque<>(this.window);
+        AtomicBoolean aborted = new AtomicBoolean();
+        long first = Math.max(0, from);
+        long end = Math.min(to, corpus.getSize());
+        try {
+            for (long index = first; index < end; index += this.corpusChunk) {
+                long chunkStart = index;
+                int count = (int) Math.min(this.corpusChunk, end - index);
+                pending.add(this.batchSolverPool.submit(() -> this.solveRecords(corpus, chunkStart, count, aborted)));
+                if (pending.size() >= this.window) {
+                    writer.write(pending.poll().join());
+                }
+                this.drainCompleted(pending, writer);
+            }
+            while (!pending.isEmpty()) {
+                writer.write(pending.poll().join());
+            }
+            writer.flush();
+            long count = Math.max(0, end - first);
+            log.debug("Solved {} puzzles from {}", count, corpus);
+            return count;
+        } finally {
+            this.abort(pending, aborted);
+        }
+    }
+
+    private void submit(Deque<ForkJoinTask<String>> pending, long firstIndex, List<String> chunk,
+                        AtomicBoolean aborted) {
+        pending.add(this.batchSolverPool.submit(() -> this.solveChunk(firstIndex, chunk, aborted)));
+    }
+
+    private void abort(Deque<ForkJoinTask<String>> pending, AtomicBoolean aborted) {
+        // ForkJoinTask.cancel never interrupts a running chunk, so running chunks poll the flag between boards.
+        aborted.set(true);
+        pending.forEach(task -> task.cancel(true));
+    }
+
+    private void drainCompleted(Deque<ForkJoinTask<String>> pending, Writer writer) throws IOException {
+        while (!pending.isEmpty() && pending.peek().isDone()) {
+            writer.write(pending.poll().join());
+        }
+    }
+
+    private String solveChunk(long firstIndex, List<String> puzzles, AtomicBoolean aborted) {
+        int[][][] boards = new int[puzzles.size()][][];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = this.parse(puzzles.get(i));
+        }
+        return this.solveBoards(firstIndex, boards, boards.length, MALFORMED_LINE, aborted);
+    }
+
+    private String solveRecords(PuzzleCorpus corpus, long firstIndex, int count, AtomicBoolean aborted) {
+        // Boards are only referenced until the chunk's output is built, so each worker reuses one buffer.
+        try (RecordBuffer buffer = this.recordBuffers.acquire()) {
+            for (int i = 0; i < count; i++) {
+                boolean invalid = (corpus.read(firstIndex + i, buffer.storage[i]) & PuzzleCorpus.FLAG_INVALID) != 0;
+                buffer.boards[i] = invalid ? null : buffer.storage[i];
+            }
+            return this.solveBoards(firstIndex, buffer.boards, count, INVALID_RECORD, aborted);
+        }
+    }
+
+    private String solveBoards(long firstIndex, int[][][] boards, int count, String invalidReason,
+                               AtomicBoolean aborted) {
+        List<int[][]> valid = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (boards[i] != null) {
+                valid.add(boards[i]);
+            }
+        }
+
+        // The bulk solver runs one slab at a time so an aborted stream stops within a slab.
+        List<SolveResult> slabResults = List.of();
+        int nextResult = 0;
+        int nextValid = 0;
+        StringBuilder output = new StringBuilder(count * (CELL_COUNT + 32));
+        for (int i = 0; i < count; i++) {
+            if (aborted.get()) {
+                throw new CancellationException("Batch stream was aborted");
+            }
+            output.append(firstIndex + i).append(SEPARATOR);
+            if (boards[i] == null) {
+                output.append(SolveStatus.INVALID_INPUT).append(SEPARATOR)
+                        .append(SolutionUniqueness.NONE).append(SEPARATOR);
+                this.appendReason(output, invalidReason);
+                output.append('\n');
+                continue;
+            }
+            SolveResult result;
+            if (this.bulkSolver != null) {
+                if (nextResult == slabResults.size()) {
+                    List<int[][]> slab = valid.subList(nextValid, Math.min(valid.size(), nextValid + this.chunkSize));
+                    slabResults = this.bulkSolver.solveAll(slab, this.budget, this.mode);
+                    nextValid += slab.size();
+                    nextResult = 0;
+                }
+                result = slabResults.get(nextResult++);
+            } else {
+                result = this.solver.trySolve(new Solution(boards[i]), this.budget, this.mode);
+            }
+            this.appendResult(output, this.solverMetrics.record(result));
+        }
+        return output.toString();
+    }
+
+    private void appendResult(StringBuilder line, SolveResult result) {
+        line.append(result.getStatus()).append(SEPARATOR)
+                .append(result.getUniqueness()).append(SEPARATOR);
+        if (result.isSolved()) {
+            for (int[] row : result.getSolution().getDigits()) {
+                for (int value : row) {
+                    line.append((char) ('0' + value));
+                }
+            }
+        } else {
+            this.appendReason(line, result.getReason());
+        }
+        line.append('\n');
+    }
+
+    private void appendReason(StringBuilder line, String reason) {
+        // Reasons such as "Cell (3, 4) has no candidates" contain the separator, so they are quoted CSV-style.
+        if (reason.indexOf(SEPARATOR) < 0 && reason.indexOf(QUOTE) < 0 && reason.indexOf('\n') < 0) {
+            line.append(reason);
+            return;
+        }
+        line.append(QUOTE);
+        for (int i = 0; i < reason.length(); i++) {
+            char symbol = reason.charAt(i);
+            if (symbol == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(symbol);
+        }
+        line.append(QUOTE);
+    }
+
+    private int[][] parse(String puzzle) {
+        if (puzzle.length() != CELL_COUNT) {
+            return null;
+        }
+        int[][] board = new int[BOARD_SIZE][BOARD_SIZE];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            char symbol = puzzle.charAt(cell);
+            if (symbol >= '1' && symbol <= '9') {
+                board[cell / BOARD_SIZE][cell % BOARD_SIZE] = symbol - '0';
+            } else if (symbol != '0' && symbol != '.') {
+                return null;
+            }
+        }
+        return board;
+    }
+
+    private static final class RecordBuffer extends Scratch {
+
+        private final int[][][] storage;
+        private final int[][][] boards;
+
+        private RecordBuffer(int capacity) {
+            this.storage = new int[capacity][BOARD_SIZE][BOARD_SIZE];
+            this.boards = new int[capacity][][];
+        }
+
+        @Override
+        protected void reset() {
+            Arrays.fill(this.boards, null);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package luka.teum.solution_service.processing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.config.SolverConfig;
+import luka.teum.solution_service.metrics.SolverMetrics;
+import luka.teum.solution_service.repair.GridRepairer;
+import luka.teum.solution_service.repair.ProbabilityFusion;
+import luka.teum.solution_service.solver.DifficultyGrade;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import luka.teum.solution_service.solver.GridValidator;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import messaging.Solution;
+import messaging.TelegramInfo;
+import messaging.solution.SolutionUniqueness;
+import messaging.solution.SolutionsOneInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class SolutionProcessing {
+
+    private final GridRepairer repairer;
+    private final DifficultyGrader difficultyGrader;
+    private final SolveMode mode;
+    private final ExecutorService solverExecutor;
+    private final SolverMetrics solverMetrics;
+    private final long sessionTtlMs;
+    private final boolean gradingEnabled;
+    private final Map<String, StreamSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> closedSessions = new ConcurrentHashMap<>();
+
+    public SolutionProcessing(GridRepairer repairer, DifficultyGrader difficultyGrader, SolverConfig solverConfig,
+                              ExecutorService solverExecutor, SolverMetrics solverMetrics) {
+        this.repairer = repairer;
+        this.difficultyGrader = difficultyGrader;
+        this.mode = solverConfig.getMode();
+        this.solverExecutor = solverExecutor;
+        this.solverMetrics = solverMetrics;
+        this.sessionTtlMs = solverConfig.getStream().getSessionTtlMs();
+        this.gradingEnabled = solverConfig.getGrading().isEnabled();
+    }
+
+    public SolveResult solveFirst(Collection<Solution> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return SolveResult.invalidInput("No candidate grids");
+        }
+        this.solverMetrics.recordCandidates(candidates.size());
+
+        List<Solution> validCandidates = new ArrayList<>(candidates.size());
+        SolveResult rejected = null;
+        for (Solution candidate : candidates) {
+            Optional<String> violation = GridValidator.findViolation(candidate.getDigits());
+            // Only a well-shaped grid with probabilities can be repaired; anything else is rejected as is.
+            if (violation.isPresent() && (!candidate.hasProbabilities() || !candidate.isFullGrid())) {
+                log.debug("Rejected candidate grid: {}", violation.get());
+                rejected = SolveResult.invalidInput(violation.get());
+            } else {
+                validCandidates.add(this.copyOf(candidate));
+            }
+        }
+        if (validCandidates.isEmpty()) {
+            return rejected;
+        }
+        return this.grade(this.race(validCandidates));
+    }
+
+    public Optional<SolveResult> solveIncrementally(SolutionsOneInfo solutionsOneInfo) {
+        int expected = solutionsOneInfo.getCountSolution() != null ? Math.max(1, solutionsOneInfo.getCountSolution()) : 1;
+        Solution candidate = solutionsOneInfo.getSolution() != null ? solutionsOneInfo.getSolution() : new Solution();
+        if (solutionsOneInfo.getTelegramInfo() == null) {
+            // Without telegram info the grids of one photo cannot be grouped, so only single grids are solved.
+            if (expected > 1) {
+                log.warn("Rejected grid {} of {} without telegram info", solutionsOneInfo.getSolutionId(), expected);
+                return Optional.of(SolveResult.invalidInput("Grid " + solutionsOneInfo.getSolutionId() + " of "
+                        + expected + " has no telegram info to group it by"));
+            }
+            this.solverMetrics.recordCandidates(1);
+            return Optional.of(this.grade(this.solverMetrics.record(this.repairer.solve(candidate, this.mode))));
+        }
+
+        String key = this.sessionKey(solutionsOneInfo.getTelegramInfo());
+        StreamSession session = this.sessions.computeIfAbsent(key,
+                k -> new StreamSession(expected, solutionsOneInfo.getTelegramInfo()));
+
+        synchronized (session) {
+            // Late or redelivered grids of an answered or expired session must not open a new one.
+            if (session.closed || this.closedSessions.containsKey(key)) {
+                this.sessions.remove(key, session);
+                log.debug("Dropped grid {} of closed session {}", solutionsOneInfo.getSolutionId(), key);
+                return Optional.empty();
+            }
+            session.received++;
+            boolean last = session.received >= session.expected;
+            if (last) {
+                this.close(key, session);
+                this.solverMetrics.recordCandidates(session.received);
+            }
+            if (session.answered) {
+                return Optional.empty();
+            }
+
+            SolveResult result = this.solverMetrics.record(this.repairer.solve(candidate, this.mode));
+            if (this.isFinal(result)) {
+                log.debug("Grid {} of {} solved first: {}", solutionsOneInfo.getSolutionId(), session.expected,
+                        result.getUniqueness());
+                session.answered = true;
+                return Optional.of(this.grade(result));
+            }
+            session.keep(candidate, result);
+            if (!last) {
+                return Optional.empty();
+            }
+
+            if (session.variants.size() > 1) {
+                Optional<Solution> fused = ProbabilityFusion.fuse(session.variants);
+                if (fused.isPresent()) {
+                    SolveResult fusedResult = this.solverMetrics.record(this.repairer.solve(fused.get(), this.mode));
+                    log.debug("Fused {} grids: {}", session.variants.size(), fusedResult.getStatus());
+                    session.keep(fused.get(), fusedResult);
+                }
+            }
+            return Optional.of(this.grade(session.best));
+        }
+    }
+
+    private SolveResult grade(SolveResult result) {
+        if (!this.gradingEnabled || !result.isSolved() || result.getPuzzle() == null) {
+            return result;
+        }
+        long start = System.nanoTime();
+        DifficultyGrade grade = this.solverMetrics.recordGrade(
+                this.difficultyGrader.grade(result.getPuzzle()), System.nanoTime() - start);
+        if (log.isDebugEnabled()) {
+            log.debug("Graded puzzle as {} ({}) in {} steps: {}", grade.getDifficulty(), grade.getRating(),
+                    grade.getStepCount(), grade.getStepLog());
+        }
+        return result.withGrade(grade);
+    }
+
+    public List<ExpiredSession> expireSessions() {
+        long expiredBefore = System.currentTimeMillis() - this.sessionTtlMs;
+        this.closedSessions.values().removeIf(closedAt -> closedAt < expiredBefore);
+        List<ExpiredSession> expired = new ArrayList<>();
+        this.sessions.forEach((key, session) -> {
+            if (session.createdAt >= expiredBefore) {
+                return;
+            }
+            synchronized (session) {
+                if (session.closed) {
+                    return;
+                }
+                this.close(key, session);
+                log.warn("Expiring unfinished solve session {} after {} of {} grids", key, session.received,
+                        session.expected);
+                if (session.answered) {
+                    return;
+                }
+                session.answered = true;
+                SolveResult result = session.best != null
+                        ? this.grade(session.best)
+                        : SolveResult.incomplete("Received " + session.received + " of " + session.expected + " grids");
+                expired.add(new ExpiredSession(session.telegramInfo, session.received, session.expected, result));
+            }
+        });
+        return expired;
+    }
+
+    private void close(String key, StreamSession session) {
+        // The tombstone goes in first so a grid racing the removal still finds the session closed.
+        this.closedSessions.put(key, System.currentTimeMillis());
+        this.sessions.remove(key, session);
+        session.closed = true;
+    }
+
+    private String sessionKey(TelegramInfo telegramInfo) {
+        return telegramInfo.getChartId() + ":" + telegramInfo.getUserId() + ":" + telegramInfo.getMessageId();
+    }
+
+    private SolveResult race(List<Solution> candidates) {
+        CompletionService<SolveResult> completionService = new ExecutorCompletionService<>(this.solverExecutor);
+        List<Future<SolveResult>> futures = new ArrayList<>(candidates.size());
+        try {
+            int rejected = 0;
+            for (Solution candidate : candidates) {
+                try {
+                    futures.add(completionService.submit(() ->
+                            this.solverMetrics.record(this.repairer.solve(candidate, this.mode))));
+                } catch (RejectedExecutionException e) {
+                    rejected++;
+                }
+            }
+            if (rejected > 0) {
+                log.warn("Solver executor is saturated, {} of {} candidate grids counted as failed",
+                        rejected, candidates.size());
+            }
+
+            SolveResult result = SolveResult.unsolvable();
+            for (int i = 0; i < futures.size(); i++) {
+                SolveResult attempt = this.getResult(completionService.take());
+                if (this.isFinal(attempt)) {
+                    log.debug("Candidate {} of {} solved first: {}", i + 1, futures.size(), attempt.getUniqueness());
+                    return attempt;
+                }
+                if (this.rank(attempt) > this.rank(result)) {
+                    result = attempt;
+                }
+            }
+            return result;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while racing {} candidate grids", candidates.size());
+            return SolveResult.unsolvable();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private boolean isFinal(SolveResult result) {
+        if (!result.isSolved()) {
+            return false;
+        }
+        return this.mode == SolveMode.FIRST || result.getUniqueness() == SolutionUniqueness.UNIQUE;
+    }
+
+    private int rank(SolveResult result) {
+        if (!result.isSolved()) {
+            return result.getStatus() == SolveStatus.BUDGET_EXCEEDED ? 1 : 0;
+        }
+        return result.getUniqueness() == SolutionUniqueness.MULTIPLE ? 2 : 3;
+    }
+
+    private SolveResult getResult(Future<SolveResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("Candidate grid failed to solve: {}", e.getCause().getMessage(), e.getCause());
+            return SolveResult.unsolvable();
+        }
+    }
+
+    private Solution copyOf(Solution solution) {
+        int[][] digits = solution.getDigits();
+        int[][] copy = new int[digits.length][];
+        for (int i = 0; i < digits.length; i++) {
+            copy[i] = digits[i].clone();
+        }
+        return new Solution(copy, solution.getProbabilities());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ExpiredSession {
+        private final TelegramInfo telegramInfo;
+        private final int received;
+        private final int expected;
+        private final SolveResult result;
+    }
+
+    private final class StreamSession {
+
+        private final int expected;
+        private final TelegramInfo telegramInfo;
+        private final long createdAt = System.currentTimeMillis();
+        private final List<Solution> variants = new ArrayList<>();
+        private SolveResult best;
+        private int received;
+        private boolean answered;
+        private boolean closed;
+
+        private StreamSession(int expected, TelegramInfo telegramInfo) {
+            this.expected = expected;
+            this.telegramInfo = telegramInfo;
+        }
+
+        private void keep(Solution candidate, SolveResult result) {
+            if (candidate.hasProbabilities()) {
+                this.variants.add(candidate);
+            }
+            if (this.best == null || rank(result) > rank(this.best)) {
+                this.best = result;
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package luka.teum.solution_service.repair;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import luka.teum.solution_service.solver.GridValidator;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Slf4j
+public class GridRepairer {
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int CLASS_COUNT = BOARD_SIZE + 1;
+    private static final int MAX_STATES = 1 << 14;
+    private static final double MIN_PROBABILITY = 1e-6;
+
+    private final SudokuSolver solver;
+    private final SolveBudget budget;
+    private final int topK;
+    private final int maxCells;
+    private final int maxEdits;
+    private final int maxAttempts;
+
+    public GridRepairer(SudokuSolver solver, SolveBudget budget, int topK, int maxCells, int maxEdits, int maxAttempts) {
+        this.solver = solver;
+        this.budget = budget;
+        this.topK = topK;
+        this.maxCells = maxCells;
+        this.maxEdits = maxEdits;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public SolveResult solve(Solution candidate, SolveMode mode) {
+        if (!candidate.isFullGrid()) {
+            return this.solver.trySolve(candidate, this.budget, mode);
+        }
+        // The direct solve and every repair attempt share one time budget, and their search effort is
+        // reported together so metrics see the whole repair rather than the last attempt.
+        long deadline = this.budget.getMaxTimeMs() == SolveBudget.NO_LIMIT
+                ? Long.MAX_VALUE
+                : System.currentTimeMillis() + this.budget.getMaxTimeMs();
+        Effort effort = new Effort();
+        SolveResult direct = effort.add(this.solver.trySolve(candidate, this.budget, mode));
+        if (!candidate.hasProbabilities() || !this.needsRepair(direct, mode)) {
+            return direct;
+        }
+
+        List<Edit> edits = this.collectEdits(candidate.getDigits(), candidate.getProbabilities());
+        if (edits.isEmpty()) {
+            return direct;
+        }
+
+        SolveResult fallback = direct.isSolved() ? direct : null;
+
+        PriorityQueue<Repair> queue = new PriorityQueue<>(Comparator.comparingDouble(Repair::getCost));
+        queue.add(new Repair(new int[]{0}, edits.get(0).getCost()));
+        int attempts = 0;
+        int states = 0;
+
+        while (!queue.isEmpty() && attempts < this.maxAttempts && states++ < MAX_STATES) {
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (Thread.currentThread().isInterrupted() || remainingMs <= 0) {
+                break;
+            }
+            Repair repair = queue.poll();
+            this.expand(repair, edits, queue);
+
+            int[][] grid = this.apply(candidate.getDigits(), repair, edits);
+            if (grid == null || GridValidator.findViolation(grid).isPresent()) {
+                continue;
+            }
+
+            attempts++;
+            SolveBudget remaining = deadline == Long.MAX_VALUE
+                    ? this.budget
+                    : new SolveBudget(this.budget.getMaxNodes(), remainingMs);
+            SolveResult result = effort.add(this.solver.trySolve(new Solution(grid), remaining, mode));
+            if (!result.isSolved()) {
+                continue;
+            }
+            result = result.withRepairedCells(repair.getEdits().length);
+            if (mode == SolveMode.FIRST || result.getUniqueness() != SolutionUniqueness.MULTIPLE) {
+                log.debug("Repaired {} cells after {} attempts, cost {}", repair.getEdits().length, attempts, repair.getCost());
+                return effort.applyTo(result);
+            }
+            if (fallback == null) {
+                fallback = result;
+            }
+        }
+
+        log.debug("No repair found after {} attempts and {} states", attempts, states);
+        return effort.applyTo(fallback != null ? fallback : direct);
+    }
+
+    private boolean needsRepair(SolveResult result, SolveMode mode) {
+        if (result.isSolved()) {
+            return mode != SolveMode.FIRST && result.getUniqueness() == SolutionUniqueness.MULTIPLE;
+        }
+        return result.getStatus() == SolveStatus.INVALID_INPUT || result.getStatus() == SolveStatus.UNSOLVABLE;
+    }
+
+    private List<Edit> collectEdits(int[][] digits, float[][][] probabilities) {
+        Integer[] cells = new Integer[CELL_COUNT];
+        double[] confidence = new double[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            cells[cell] = cell;
+            confidence[cell] = this.probability(probabilities, cell, digits[cell / BOARD_SIZE][cell % BOARD_SIZE]);
+        }
+        Arrays.sort(cells, Comparator.comparingDouble(cell -> confidence[cell]));
+
+        List<Edit> edits = new ArrayList<>();
+        for (int i = 0; i < Math.min(this.maxCells, CELL_COUNT); i++) {
+            int cell = cells[i];
+            int current = digits[cell / BOARD_SIZE][cell % BOARD_SIZE];
+            Integer[] classes = new Integer[CLASS_COUNT];
+            for (int value = 0; value < CLASS_COUNT; value++) {
+                classes[value] = value;
+            }
+            Arrays.sort(classes, Comparator.comparingDouble(value -> -this.probability(probabilities, cell, value)));
+
+            int alternatives = 0;
+            for (int j = 0; j < CLASS_COUNT && alternatives < this.topK - 1; j++) {
+                int value = classes[j];
+                if (value == current) {
+                    continue;
+                }
+                double probability = this.probability(probabilities, cell, value);
+                if (probability <= MIN_PROBABILITY) {
+                    break;
+                }
+                double cost = Math.max(0, Math.log(confidence[cell]) - Math.log(probability));
+                edits.add(new Edit(cell, value, cost));
+                alternatives++;
+            }
+        }
+        edits.sort(Comparator.comparingDouble(Edit::getCost));
+        return edits;
+    }
+
+    private void expand(Repair repair, List<Edit> edits, PriorityQueue<Repair> queue) {
+        int[] indexes = repair.getEdits();
+        int last = indexes[indexes.length - 1];
+        if (last + 1 >= edits.size()) {
+            return;
+        }
+        Edit next = edits.get(last + 1);
+        if (indexes.length < this.maxEdits) {
+            int[] extended = Arrays.copyOf(indexes, indexes.length + 1);
+            extended[indexes.length] = last + 1;
+            queue.add(new Repair(extended, repair.getCost() + next.getCost()));
+        }
+        int[] shifted = indexes.clone();
+        shifted[indexes.length - 1] = last + 1;
+        queue.add(new Repair(shifted, repair.getCost() - edits.get(last).getCost() + next.getCost()));
+    }
+
+    private int[][] apply(int[][] digits, Repair repair, List<Edit> edits) {
+        int[][] grid = this.copyOf(digits);
+        boolean[] touched = new boolean[CELL_COUNT];
+        for (int index : repair.getEdits()) {
+            Edit edit = edits.get(index);
+            if (touched[edit.getCell()]) {
+                return null;
+            }
+            touched[edit.getCell()] = true;
+            grid[edit.getCell() / BOARD_SIZE][edit.getCell() % BOARD_SIZE] = edit.getValue();
+        }
+        return grid;
+    }
+
+    private int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
+        }
+        return copy;
+    }
+
+    private double probability(float[][][] probabilities, int cell, int value) {
+        float[][] row = probabilities[cell / BOARD_SIZE];
+        float[] classes = row == null || row.length != BOARD_SIZE ? null : row[cell % BOARD_SIZE];
+        if (classes == null || value < 0 || value >= classes.length) {
+            return MIN_PROBABILITY;
+        }
+        return Math.max(MIN_PROBABILITY, classes[value]);
+    }
+
+    private static final class Effort {
+        private long nodes;
+        private long elapsedNanos;
+        private long backtracks;
+        private long propagations;
+
+        private SolveResult add(SolveResult result) {
+            this.nodes += result.getNodes();
+            this.elapsedNanos += result.getElapsedNanos();
+            this.backtracks += result.getBacktracks();
+            this.propagations += result.getPropagations();
+            return result;
+        }
+
+        private SolveResult applyTo(SolveResult result) {
+            return result.withEffort(this.nodes, this.elapsedNanos, this.backtracks, this.propagations);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Edit {
+        private final int cell;
+        private final int value;
+        private final double cost;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Repair {
+        private final int[] edits;
+        private final double cost;
+    }
+}
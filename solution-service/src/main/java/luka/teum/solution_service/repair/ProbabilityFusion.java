@@ -0,0 +1,50 @@
+package luka.teum.solution_service.repair;
+
+import messaging.Solution;
+
+import java.util.List;
+import java.util.Optional;
+
+public final class ProbabilityFusion {
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+
+    private ProbabilityFusion() {
+    }
+
+    public static Optional<Solution> fuse(List<Solution> variants) {
+        List<Solution> recognised = variants.stream()
+                .filter(Solution::hasProbabilities)
+                .toList();
+        if (recognised.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int classes = recognised.get(0).getProbabilities()[0][0].length;
+        float[][][] fused = new float[BOARD_SIZE][BOARD_SIZE][classes];
+        int[][] digits = new int[BOARD_SIZE][BOARD_SIZE];
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            for (int column = 0; column < BOARD_SIZE; column++) {
+                float[] vector = fused[row][column];
+                for (Solution variant : recognised) {
+                    float[] probabilities = variant.getProbabilities()[row][column];
+                    for (int k = 0; k < Math.min(classes, probabilities.length); k++) {
+                        vector[k] += probabilities[k] / recognised.size();
+                    }
+                }
+                digits[row][column] = mostLikely(vector);
+            }
+        }
+        return Optional.of(new Solution(digits, fused));
+    }
+
+    private static int mostLikely(float[] probabilities) {
+        int best = Solution.NO_SOLUTION;
+        for (int k = 1; k < probabilities.length; k++) {
+            if (probabilities[k] > probabilities[best]) {
+                best = k;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,180 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+import java.util.Arrays;
+
+public class BacktrackingSudokuSolver implements SudokuSolver {
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+    private static final int ALL_DIGITS = (1 << BOARD_SIZE) - 1;
+
+    private static final int[] ROW_OF = new int[CELL_COUNT];
+    private static final int[] COLUMN_OF = new int[CELL_COUNT];
+    private static final int[] BOX_OF = new int[CELL_COUNT];
+    private static final ScratchPool<Grid> GRIDS = new ScratchPool<>(Grid::new);
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / BOARD_SIZE;
+            int column = cell % BOARD_SIZE;
+            ROW_OF[cell] = row;
+            COLUMN_OF[cell] = column;
+            BOX_OF[cell] = (row / SUBSECTION_SIZE) * SUBSECTION_SIZE + column / SUBSECTION_SIZE;
+        }
+    }
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        try (Grid grid = GRIDS.acquire()) {
+            if (limit <= 0 || !grid.load(board)) {
+                return 0;
+            }
+            int found = grid.count(limit, tracker);
+            if (found > 0) {
+                grid.store(board);
+            }
+            return found;
+        }
+    }
+
+    private static final class Grid extends Scratch {
+
+        private final int[] cells = new int[CELL_COUNT];
+        private final int[] rowMasks = new int[BOARD_SIZE];
+        private final int[] columnMasks = new int[BOARD_SIZE];
+        private final int[] boxMasks = new int[BOARD_SIZE];
+        private final int[] trailCells = new int[CELL_COUNT];
+        private final int[] trailCandidates = new int[CELL_COUNT];
+        private final int[] solution = new int[CELL_COUNT];
+        private BudgetTracker tracker;
+
+        @Override
+        protected void reset() {
+            Arrays.fill(this.cells, NO_VALUE);
+            Arrays.fill(this.rowMasks, 0);
+            Arrays.fill(this.columnMasks, 0);
+            Arrays.fill(this.boxMasks, 0);
+        }
+
+        private boolean load(int[][] board) {
+            if (board == null || board.length != BOARD_SIZE) {
+                return false;
+            }
+            for (int row = 0; row < BOARD_SIZE; row++) {
+                if (board[row] == null || board[row].length != BOARD_SIZE) {
+                    return false;
+                }
+                for (int column = 0; column < BOARD_SIZE; column++) {
+                    int value = board[row][column];
+                    if (value < NO_VALUE || value > BOARD_SIZE) {
+                        return false;
+                    }
+                    int cell = row * BOARD_SIZE + column;
+                    if (value != NO_VALUE && (this.candidates(cell) & (1 << (value - 1))) == 0) {
+                        return false;
+                    }
+                    if (value != NO_VALUE) {
+                        this.set(cell, value);
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void store(int[][] board) {
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                board[ROW_OF[cell]][COLUMN_OF[cell]] = this.solution[cell];
+            }
+        }
+
+        private int count(int limit, BudgetTracker tracker) {
+            this.tracker = tracker;
+            int found = this.search(limit);
+            this.tracker = null;
+            return found;
+        }
+
+        private int search(int limit) {
+            int found = 0;
+            int depth = 0;
+            while (true) {
+                if (this.tracker.visit()) {
+                    int cell = this.nextEmptyCell(depth == 0 ? 0 : this.trailCells[depth - 1] + 1);
+                    if (cell == CELL_COUNT) {
+                        if (found++ == 0) {
+                            System.arraycopy(this.cells, 0, this.solution, 0, CELL_COUNT);
+                        }
+                        if (found >= limit) {
+                            return found;
+                        }
+                    } else {
+                        this.trailCells[depth] = cell;
+                        this.trailCandidates[depth] = this.candidates(cell);
+                        depth++;
+                    }
+                }
+
+                boolean advanced = false;
+                while (depth > 0 && !advanced) {
+                    int top = depth - 1;
+                    int cell = this.trailCells[top];
+                    if (this.cells[cell] != NO_VALUE) {
+                        this.clear(cell);
+                    }
+                    int candidates = this.trailCandidates[top];
+                    if (candidates == 0 || this.tracker.isExceeded()) {
+                        this.tracker.backtrack();
+                        depth--;
+                    } else {
+                        int bit = candidates & -candidates;
+                        this.trailCandidates[top] = candidates ^ bit;
+                        this.set(cell, Integer.numberOfTrailingZeros(bit) + 1);
+                        advanced = true;
+                    }
+                }
+                if (!advanced) {
+                    return found;
+                }
+            }
+        }
+
+        private int nextEmptyCell(int from) {
+            int cell = from;
+            while (cell < CELL_COUNT && this.cells[cell] != NO_VALUE) {
+                cell++;
+            }
+            return cell;
+        }
+
+        private int candidates(int cell) {
+            return ~(this.rowMasks[ROW_OF[cell]]
+                    | this.columnMasks[COLUMN_OF[cell]]
+                    | this.boxMasks[BOX_OF[cell]]) & ALL_DIGITS;
+        }
+
+        private void set(int cell, int value) {
+            int bit = 1 << (value - 1);
+            this.cells[cell] = value;
+            this.rowMasks[ROW_OF[cell]] |= bit;
+            this.columnMasks[COLUMN_OF[cell]] |= bit;
+            this.boxMasks[BOX_OF[cell]] |= bit;
+        }
+
+        private void clear(int cell) {
+            int bit = ~(1 << (this.cells[cell] - 1));
+            this.rowMasks[ROW_OF[cell]] &= bit;
+            this.columnMasks[COLUMN_OF[cell]] &= bit;
+            this.boxMasks[BOX_OF[cell]] &= bit;
+            this.cells[cell] = NO_VALUE;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+import java.util.Arrays;
+
+public class BitmaskSudokuSolver implements SudokuSolver {
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int UNIT_COUNT = BOARD_SIZE * 3;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+    private static final int ALL_DIGITS = (1 << BOARD_SIZE) - 1;
+
+    private static final int[] ROW_OF = new int[CELL_COUNT];
+    private static final int[] COLUMN_OF = new int[CELL_COUNT];
+    private static final int[] BOX_OF = new int[CELL_COUNT];
+    private static final int[][] UNITS = new int[UNIT_COUNT][BOARD_SIZE];
+    private static final ScratchPool<Grid> GRIDS = new ScratchPool<>(Grid::new);
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / BOARD_SIZE;
+            int column = cell % BOARD_SIZE;
+            int box = (row / SUBSECTION_SIZE) * SUBSECTION_SIZE + column / SUBSECTION_SIZE;
+            int boxIndex = (row % SUBSECTION_SIZE) * SUBSECTION_SIZE + column % SUBSECTION_SIZE;
+
+            ROW_OF[cell] = row;
+            COLUMN_OF[cell] = column;
+            BOX_OF[cell] = box;
+
+            UNITS[row][column] = cell;
+            UNITS[BOARD_SIZE + column][row] = cell;
+            UNITS[2 * BOARD_SIZE + box][boxIndex] = cell;
+        }
+    }
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        try (Grid grid = GRIDS.acquire()) {
+            if (limit <= 0 || !grid.load(board)) {
+                return 0;
+            }
+            int found = grid.count(limit, tracker);
+            if (found > 0) {
+                grid.store(board);
+            }
+            return found;
+        }
+    }
+
+    private static final class Grid extends Scratch {
+
+        private final int[] cells = new int[CELL_COUNT];
+        private final int[] rowMasks = new int[BOARD_SIZE];
+        private final int[] columnMasks = new int[BOARD_SIZE];
+        private final int[] boxMasks = new int[BOARD_SIZE];
+        private final int[] trail = new int[CELL_COUNT];
+        private final int[] solution = new int[CELL_COUNT];
+        private BudgetTracker tracker;
+        private int trailSize;
+        private int limit;
+        private int found;
+
+        @Override
+        protected void reset() {
+            Arrays.fill(this.cells, NO_VALUE);
+            Arrays.fill(this.rowMasks, 0);
+            Arrays.fill(this.columnMasks, 0);
+            Arrays.fill(this.boxMasks, 0);
+            this.trailSize = 0;
+            this.found = 0;
+        }
+
+        private boolean load(int[][] board) {
+            if (board == null || board.length != BOARD_SIZE) {
+                return false;
+            }
+            for (int row = 0; row < BOARD_SIZE; row++) {
+                if (board[row] == null || board[row].length != BOARD_SIZE) {
+                    return false;
+                }
+                for (int column = 0; column < BOARD_SIZE; column++) {
+                    int value = board[row][column];
+                    if (value < NO_VALUE || value > BOARD_SIZE) {
+                        return false;
+                    }
+                    if (value != NO_VALUE && !this.place(row * BOARD_SIZE + column, value)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void store(int[][] board) {
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                board[ROW_OF[cell]][COLUMN_OF[cell]] = this.solution[cell];
+            }
+        }
+
+        private int count(int limit, BudgetTracker tracker) {
+            this.limit = limit;
+            this.tracker = tracker;
+            this.search();
+            this.tracker = null;
+            return this.found;
+        }
+
+        private boolean search() {
+            if (!this.tracker.visit()) {
+                return false;
+            }
+            int mark = this.trailSize;
+            if (!this.propagate()) {
+                this.tracker.backtrack();
+                this.undo(mark);
+                return false;
+            }
+
+            int bestCell = -1;
+            int bestCount = BOARD_SIZE + 1;
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                if (this.cells[cell] != NO_VALUE) {
+                    continue;
+                }
+                int count = Integer.bitCount(this.candidates(cell));
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestCount = count;
+                    if (count == 2) {
+                        break;
+                    }
+                }
+            }
+            if (bestCell < 0) {
+                if (this.found++ == 0) {
+                    System.arraycopy(this.cells, 0, this.solution, 0, CELL_COUNT);
+                }
+                if (this.found >= this.limit) {
+                    return true;
+                }
+                this.undo(mark);
+                return false;
+            }
+
+            int branchMark = this.trailSize;
+            int candidates = this.candidates(bestCell);
+            while (candidates != 0 && !this.tracker.isExceeded()) {
+                int bit = candidates & -candidates;
+                candidates ^= bit;
+                this.place(bestCell, Integer.numberOfTrailingZeros(bit) + 1);
+                if (this.search()) {
+                    return true;
+                }
+                this.undo(branchMark);
+            }
+            this.tracker.backtrack();
+            this.undo(mark);
+            return false;
+        }
+
+        private boolean propagate() {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+
+                for (int cell = 0; cell < CELL_COUNT; cell++) {
+                    if (this.cells[cell] != NO_VALUE) {
+                        continue;
+                    }
+                    int candidates = this.candidates(cell);
+                    if (candidates == 0) {
+                        return false;
+                    }
+                    if ((candidates & (candidates - 1)) == 0) {
+                        this.place(cell, Integer.numberOfTrailingZeros(candidates) + 1);
+                        this.tracker.propagate();
+                        changed = true;
+                    }
+                }
+
+                for (int[] unit : UNITS) {
+                    int placed = 0;
+                    int once = 0;
+                    int more = 0;
+                    for (int cell : unit) {
+                        if (this.cells[cell] != NO_VALUE) {
+                            placed |= 1 << (this.cells[cell] - 1);
+                        } else {
+                            int candidates = this.candidates(cell);
+                            more |= once & candidates;
+                            once |= candidates;
+                        }
+                    }
+                    if ((once | placed) != ALL_DIGITS) {
+                        return false;
+                    }
+
+                    int singles = once & ~more;
+                    while (singles != 0) {
+                        int bit = singles & -singles;
+                        singles ^= bit;
+                        int cell = this.findCell(unit, bit);
+                        if (cell < 0) {
+                            return false;
+                        }
+                        this.place(cell, Integer.numberOfTrailingZeros(bit) + 1);
+                        this.tracker.propagate();
+                        changed = true;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private int findCell(int[] unit, int bit) {
+            for (int cell : unit) {
+                if (this.cells[cell] == NO_VALUE && (this.candidates(cell) & bit) != 0) {
+                    return cell;
+                }
+            }
+            return -1;
+        }
+
+        private int candidates(int cell) {
+            return ~(this.rowMasks[ROW_OF[cell]]
+                    | this.columnMasks[COLUMN_OF[cell]]
+                    | this.boxMasks[BOX_OF[cell]]) & ALL_DIGITS;
+        }
+
+        private boolean place(int cell, int value) {
+            int bit = 1 << (value - 1);
+            if (this.cells[cell] != NO_VALUE || (this.candidates(cell) & bit) == 0) {
+                return false;
+            }
+            this.cells[cell] = value;
+            this.rowMasks[ROW_OF[cell]] |= bit;
+            this.columnMasks[COLUMN_OF[cell]] |= bit;
+            this.boxMasks[BOX_OF[cell]] |= bit;
+            this.trail[this.trailSize++] = cell;
+            return true;
+        }
+
+        private void undo(int mark) {
+            while (this.trailSize > mark) {
+                int cell = this.trail[--this.trailSize];
+                int bit = ~(1 << (this.cells[cell] - 1));
+                this.rowMasks[ROW_OF[cell]] &= bit;
+                this.columnMasks[COLUMN_OF[cell]] &= bit;
+                this.boxMasks[BOX_OF[cell]] &= bit;
+                this.cells[cell] = NO_VALUE;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package luka.teum.solution_service.solver;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class BudgetTracker {
+
+    private static final long CHECK_INTERVAL_MASK = 0x3FF;
+
+    private final long maxNodes;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private final boolean timed;
+
+    private long nodes;
+    private long backtracks;
+    private long propagations;
+    private long finishNanos;
+    private boolean exceeded;
+    private boolean cancelled;
+
+    BudgetTracker(SolveBudget budget) {
+        this.maxNodes = budget.getMaxNodes() > SolveBudget.NO_LIMIT ? budget.getMaxNodes() : Long.MAX_VALUE;
+        this.timed = budget.getMaxTimeMs() > SolveBudget.NO_LIMIT;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = this.startNanos + TimeUnit.MILLISECONDS.toNanos(budget.getMaxTimeMs());
+    }
+
+    public boolean visit() {
+        if (this.exceeded) {
+            return false;
+        }
+        this.nodes++;
+        if (this.nodes > this.maxNodes) {
+            this.stop();
+        } else if ((this.nodes & CHECK_INTERVAL_MASK) == 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                this.cancelled = true;
+                this.stop();
+            } else if (this.timed && System.nanoTime() - this.deadlineNanos > 0) {
+                this.stop();
+            }
+        }
+        return !this.exceeded;
+    }
+
+    public void backtrack() {
+        this.backtracks++;
+    }
+
+    public void propagate() {
+        this.propagations++;
+    }
+
+    public long getElapsedNanos() {
+        long finish = this.exceeded ? this.finishNanos : System.nanoTime();
+        return finish - this.startNanos;
+    }
+
+    private void stop() {
+        this.exceeded = true;
+        this.finishNanos = System.nanoTime();
+    }
+}
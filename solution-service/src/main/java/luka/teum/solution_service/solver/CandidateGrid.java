@@ -0,0 +1,436 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+final class CandidateGrid extends Scratch {
+
+    static final int SOLVED = 0;
+    static final int STALLED = 1;
+    static final int CONTRADICTION = 2;
+    static final int EXCEEDED = 3;
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int UNIT_COUNT = BOARD_SIZE * 3;
+    private static final int PEER_COUNT = 20;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+    private static final int ALL_DIGITS = (1 << BOARD_SIZE) - 1;
+    private static final int MAX_STEPS = CELL_COUNT * (BOARD_SIZE + 1);
+
+    private static final int[] ROW_OF = new int[CELL_COUNT];
+    private static final int[] COLUMN_OF = new int[CELL_COUNT];
+    private static final int[] BOX_OF = new int[CELL_COUNT];
+    private static final int[][] UNITS = new int[UNIT_COUNT][BOARD_SIZE];
+    private static final int[][] PEERS = new int[CELL_COUNT][PEER_COUNT];
+    private static final int[] PAIRS = combinations(2);
+    private static final int[] TRIPLES = combinations(3);
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / BOARD_SIZE;
+            int column = cell % BOARD_SIZE;
+            int box = (row / SUBSECTION_SIZE) * SUBSECTION_SIZE + column / SUBSECTION_SIZE;
+            int boxIndex = (row % SUBSECTION_SIZE) * SUBSECTION_SIZE + column % SUBSECTION_SIZE;
+
+            ROW_OF[cell] = row;
+            COLUMN_OF[cell] = column;
+            BOX_OF[cell] = box;
+
+            UNITS[row][column] = cell;
+            UNITS[BOARD_SIZE + column][row] = cell;
+            UNITS[2 * BOARD_SIZE + box][boxIndex] = cell;
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int count = 0;
+            for (int peer = 0; peer < CELL_COUNT; peer++) {
+                if (peer != cell && (ROW_OF[peer] == ROW_OF[cell]
+                        || COLUMN_OF[peer] == COLUMN_OF[cell] || BOX_OF[peer] == BOX_OF[cell])) {
+                    PEERS[cell][count++] = peer;
+                }
+            }
+        }
+    }
+
+    private final int[] values = new int[CELL_COUNT];
+    private final int[] candidates = new int[CELL_COUNT];
+    private final int[] positions = new int[BOARD_SIZE];
+    private final int[] steps = new int[MAX_STEPS];
+    private int stepCount;
+    private int remaining;
+    private int hardest;
+
+    @Override
+    protected void reset() {
+        this.stepCount = 0;
+        this.remaining = CELL_COUNT;
+        this.hardest = -1;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            this.values[cell] = NO_VALUE;
+            this.candidates[cell] = ALL_DIGITS;
+        }
+    }
+
+    boolean load(int[][] board) {
+        if (board == null || board.length != BOARD_SIZE) {
+            return false;
+        }
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            if (board[row] == null || board[row].length != BOARD_SIZE) {
+                return false;
+            }
+            for (int column = 0; column < BOARD_SIZE; column++) {
+                int value = board[row][column];
+                if (value < NO_VALUE || value > BOARD_SIZE) {
+                    return false;
+                }
+                int cell = row * BOARD_SIZE + column;
+                if (value != NO_VALUE && !this.place(cell, 1 << (value - 1))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    int solve(BudgetTracker tracker) {
+        while (this.remaining > 0) {
+            if (!this.isConsistent()) {
+                return CONTRADICTION;
+            }
+            if (!tracker.visit()) {
+                return EXCEEDED;
+            }
+            boolean progress = this.hiddenSingle()
+                    || this.nakedSingle()
+                    || this.pointing()
+                    || this.claiming()
+                    || this.nakedSubset(PAIRS, Technique.NAKED_PAIR)
+                    || this.fish(PAIRS, Technique.X_WING)
+                    || this.hiddenSubset(PAIRS, Technique.HIDDEN_PAIR)
+                    || this.nakedSubset(TRIPLES, Technique.NAKED_TRIPLE)
+                    || this.fish(TRIPLES, Technique.SWORDFISH)
+                    || this.hiddenSubset(TRIPLES, Technique.HIDDEN_TRIPLE);
+            if (!progress) {
+                return STALLED;
+            }
+            tracker.propagate();
+        }
+        return SOLVED;
+    }
+
+    void store(int[][] board) {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            board[ROW_OF[cell]][COLUMN_OF[cell]] = this.values[cell];
+        }
+    }
+
+    int[] copySteps() {
+        int[] copy = new int[this.stepCount];
+        System.arraycopy(this.steps, 0, copy, 0, this.stepCount);
+        return copy;
+    }
+
+    int getHardest() {
+        return this.hardest;
+    }
+
+    private boolean isConsistent() {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            if (this.values[cell] == NO_VALUE && this.candidates[cell] == 0) {
+                return false;
+            }
+        }
+        for (int[] unit : UNITS) {
+            int seen = 0;
+            for (int cell : unit) {
+                seen |= this.values[cell] == NO_VALUE ? this.candidates[cell] : 1 << (this.values[cell] - 1);
+            }
+            if (seen != ALL_DIGITS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hiddenSingle() {
+        for (int[] unit : UNITS) {
+            int once = 0;
+            int more = 0;
+            for (int cell : unit) {
+                more |= once & this.candidates[cell];
+                once |= this.candidates[cell];
+            }
+            int singles = once & ~more;
+            if (singles == 0) {
+                continue;
+            }
+            int bit = singles & -singles;
+            for (int cell : unit) {
+                if ((this.candidates[cell] & bit) != 0) {
+                    this.place(cell, bit);
+                    this.record(Technique.HIDDEN_SINGLE, cell, bit, 0);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean nakedSingle() {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int mask = this.candidates[cell];
+            if (mask != 0 && (mask & (mask - 1)) == 0) {
+                this.place(cell, mask);
+                this.record(Technique.NAKED_SINGLE, cell, mask, 0);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean pointing() {
+        for (int box = 0; box < BOARD_SIZE; box++) {
+            int[] unit = UNITS[2 * BOARD_SIZE + box];
+            for (int bit = 1; bit <= ALL_DIGITS; bit <<= 1) {
+                int first = -1;
+                boolean sameRow = true;
+                boolean sameColumn = true;
+                for (int cell : unit) {
+                    if ((this.candidates[cell] & bit) == 0) {
+                        continue;
+                    }
+                    if (first < 0) {
+                        first = cell;
+                    } else {
+                        sameRow &= ROW_OF[cell] == ROW_OF[first];
+                        sameColumn &= COLUMN_OF[cell] == COLUMN_OF[first];
+                    }
+                }
+                if (first < 0 || !(sameRow || sameColumn)) {
+                    continue;
+                }
+                int[] line = sameRow ? UNITS[ROW_OF[first]] : UNITS[BOARD_SIZE + COLUMN_OF[first]];
+                int removed = 0;
+                for (int cell : line) {
+                    if (BOX_OF[cell] != box) {
+                        removed += this.eliminate(cell, bit);
+                    }
+                }
+                if (removed > 0) {
+                    this.record(Technique.POINTING, first, bit, removed);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean claiming() {
+        for (int line = 0; line < 2 * BOARD_SIZE; line++) {
+            int[] unit = UNITS[line];
+            for (int bit = 1; bit <= ALL_DIGITS; bit <<= 1) {
+                int first = -1;
+                boolean sameBox = true;
+                for (int cell : unit) {
+                    if ((this.candidates[cell] & bit) == 0) {
+                        continue;
+                    }
+                    if (first < 0) {
+                        first = cell;
+                    } else {
+                        sameBox &= BOX_OF[cell] == BOX_OF[first];
+                    }
+                }
+                if (first < 0 || !sameBox) {
+                    continue;
+                }
+                int removed = 0;
+                for (int cell : UNITS[2 * BOARD_SIZE + BOX_OF[first]]) {
+                    boolean inLine = line < BOARD_SIZE ? ROW_OF[cell] == line : COLUMN_OF[cell] == line - BOARD_SIZE;
+                    if (!inLine) {
+                        removed += this.eliminate(cell, bit);
+                    }
+                }
+                if (removed > 0) {
+                    this.record(Technique.CLAIMING, first, bit, removed);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean nakedSubset(int[] combinations, Technique technique) {
+        for (int[] unit : UNITS) {
+            int empty = 0;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                if (this.candidates[unit[i]] != 0) {
+                    empty |= 1 << i;
+                }
+            }
+            for (int combination : combinations) {
+                if ((combination & ~empty) != 0 || combination == empty) {
+                    continue;
+                }
+                int digits = 0;
+                for (int members = combination; members != 0; members &= members - 1) {
+                    digits |= this.candidates[unit[Integer.numberOfTrailingZeros(members)]];
+                }
+                if (Integer.bitCount(digits) != Integer.bitCount(combination)) {
+                    continue;
+                }
+                int removed = 0;
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    if ((combination & (1 << i)) == 0) {
+                        removed += this.eliminate(unit[i], digits);
+                    }
+                }
+                if (removed > 0) {
+                    this.record(technique, unit[Integer.numberOfTrailingZeros(combination)], digits, removed);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hiddenSubset(int[] combinations, Technique technique) {
+        for (int[] unit : UNITS) {
+            int open = 0;
+            for (int digit = 0; digit < BOARD_SIZE; digit++) {
+                int mask = 0;
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    if ((this.candidates[unit[i]] & (1 << digit)) != 0) {
+                        mask |= 1 << i;
+                    }
+                }
+                this.positions[digit] = mask;
+                if (mask != 0) {
+                    open |= 1 << digit;
+                }
+            }
+            for (int combination : combinations) {
+                if ((combination & ~open) != 0 || combination == open) {
+                    continue;
+                }
+                int cells = 0;
+                for (int digits = combination; digits != 0; digits &= digits - 1) {
+                    cells |= this.positions[Integer.numberOfTrailingZeros(digits)];
+                }
+                if (Integer.bitCount(cells) != Integer.bitCount(combination)) {
+                    continue;
+                }
+                int removed = 0;
+                for (int members = cells; members != 0; members &= members - 1) {
+                    removed += this.eliminate(unit[Integer.numberOfTrailingZeros(members)], ~combination & ALL_DIGITS);
+                }
+                if (removed > 0) {
+                    this.record(technique, unit[Integer.numberOfTrailingZeros(cells)], combination, removed);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean fish(int[] combinations, Technique technique) {
+        for (int bit = 1; bit <= ALL_DIGITS; bit <<= 1) {
+            if (this.fish(combinations, technique, bit, 0) || this.fish(combinations, technique, bit, BOARD_SIZE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean fish(int[] combinations, Technique technique, int bit, int baseOffset) {
+        int coverOffset = BOARD_SIZE - baseOffset;
+        int open = 0;
+        for (int base = 0; base < BOARD_SIZE; base++) {
+            int[] unit = UNITS[baseOffset + base];
+            int mask = 0;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                if ((this.candidates[unit[i]] & bit) != 0) {
+                    mask |= 1 << i;
+                }
+            }
+            this.positions[base] = mask;
+            if (mask != 0) {
+                open |= 1 << base;
+            }
+        }
+        for (int combination : combinations) {
+            if ((combination & ~open) != 0) {
+                continue;
+            }
+            int covers = 0;
+            for (int bases = combination; bases != 0; bases &= bases - 1) {
+                covers |= this.positions[Integer.numberOfTrailingZeros(bases)];
+            }
+            if (Integer.bitCount(covers) != Integer.bitCount(combination)) {
+                continue;
+            }
+            int removed = 0;
+            for (int cover = covers; cover != 0; cover &= cover - 1) {
+                int[] unit = UNITS[coverOffset + Integer.numberOfTrailingZeros(cover)];
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    if ((combination & (1 << i)) == 0) {
+                        removed += this.eliminate(unit[i], bit);
+                    }
+                }
+            }
+            if (removed > 0) {
+                int first = UNITS[baseOffset + Integer.numberOfTrailingZeros(combination)][Integer.numberOfTrailingZeros(covers)];
+                this.record(technique, first, bit, removed);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean place(int cell, int bit) {
+        if ((this.candidates[cell] & bit) == 0) {
+            return false;
+        }
+        this.values[cell] = Integer.numberOfTrailingZeros(bit) + 1;
+        this.candidates[cell] = 0;
+        this.remaining--;
+        for (int peer : PEERS[cell]) {
+            this.candidates[peer] &= ~bit;
+        }
+        return true;
+    }
+
+    private int eliminate(int cell, int digits) {
+        int removed = this.candidates[cell] & digits;
+        this.candidates[cell] &= ~digits;
+        return Integer.bitCount(removed);
+    }
+
+    private void record(Technique technique, int cell, int digits, int removed) {
+        this.hardest = Math.max(this.hardest, technique.ordinal());
+        this.steps[this.stepCount++] = technique.ordinal() << DifficultyGrade.TECHNIQUE_SHIFT
+                | Math.min(removed, DifficultyGrade.COUNT_MASK) << DifficultyGrade.COUNT_SHIFT
+                | cell << DifficultyGrade.CELL_SHIFT
+                | digits << DifficultyGrade.DIGITS_SHIFT;
+    }
+
+    private static int[] combinations(int size) {
+        int[] combinations = new int[binomial(BOARD_SIZE, size)];
+        int count = 0;
+        for (int mask = 0; mask <= ALL_DIGITS; mask++) {
+            if (Integer.bitCount(mask) == size) {
+                combinations[count++] = mask;
+            }
+        }
+        return combinations;
+    }
+
+    private static int binomial(int n, int k) {
+        int result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - i + 1) / i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,253 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+public class DancingLinksSudokuSolver implements SudokuSolver {
+
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+
+    private static final int CONSTRAINT_COUNT = CELL_COUNT * 4;
+    private static final int ROW_COUNT = CELL_COUNT * BOARD_SIZE;
+    private static final int NODES_PER_ROW = 4;
+    private static final int ROOT = 0;
+    private static final int FIRST_ROW_NODE = CONSTRAINT_COUNT + 1;
+    private static final int NODE_COUNT = FIRST_ROW_NODE + ROW_COUNT * NODES_PER_ROW;
+
+    private static final Matrix TEMPLATE = new Matrix();
+    private static final ScratchPool<Matrix> MATRICES = new ScratchPool<>(Matrix::new);
+
+    static {
+        TEMPLATE.build();
+    }
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        try (Matrix matrix = MATRICES.acquire()) {
+            if (limit <= 0 || !matrix.load(board)) {
+                return 0;
+            }
+            int found = matrix.count(limit, tracker);
+            if (found > 0) {
+                matrix.store(board);
+            }
+            return found;
+        }
+    }
+
+    private static final class Matrix extends Scratch {
+
+        private final int[] left = new int[NODE_COUNT];
+        private final int[] right = new int[NODE_COUNT];
+        private final int[] up = new int[NODE_COUNT];
+        private final int[] down = new int[NODE_COUNT];
+        private final int[] column = new int[NODE_COUNT];
+        private final int[] size = new int[CONSTRAINT_COUNT + 1];
+
+        private final int[] givens = new int[CELL_COUNT];
+        private final int[] selected = new int[CELL_COUNT];
+        private final int[] answer = new int[CELL_COUNT];
+        private int found;
+        private int limit;
+        private BudgetTracker tracker;
+
+        private void build() {
+            for (int header = ROOT; header <= CONSTRAINT_COUNT; header++) {
+                this.left[header] = header == ROOT ? CONSTRAINT_COUNT : header - 1;
+                this.right[header] = header == CONSTRAINT_COUNT ? ROOT : header + 1;
+                this.up[header] = header;
+                this.down[header] = header;
+                this.column[header] = header;
+            }
+
+            for (int row = 0; row < ROW_COUNT; row++) {
+                int first = nodeOf(row);
+                int[] constraints = constraintsOf(row);
+                for (int i = 0; i < NODES_PER_ROW; i++) {
+                    int node = first + i;
+                    int header = constraints[i] + 1;
+
+                    this.left[node] = first + (i + NODES_PER_ROW - 1) % NODES_PER_ROW;
+                    this.right[node] = first + (i + 1) % NODES_PER_ROW;
+                    this.column[node] = header;
+                    this.up[node] = this.up[header];
+                    this.down[node] = header;
+                    this.down[this.up[header]] = node;
+                    this.up[header] = node;
+                    this.size[header]++;
+                }
+            }
+        }
+
+        @Override
+        protected void reset() {
+            System.arraycopy(TEMPLATE.left, 0, this.left, 0, NODE_COUNT);
+            System.arraycopy(TEMPLATE.right, 0, this.right, 0, NODE_COUNT);
+            System.arraycopy(TEMPLATE.up, 0, this.up, 0, NODE_COUNT);
+            System.arraycopy(TEMPLATE.down, 0, this.down, 0, NODE_COUNT);
+            System.arraycopy(TEMPLATE.column, 0, this.column, 0, NODE_COUNT);
+            System.arraycopy(TEMPLATE.size, 0, this.size, 0, this.size.length);
+            this.found = 0;
+        }
+
+        private boolean load(int[][] board) {
+            if (board == null || board.length != BOARD_SIZE) {
+                return false;
+            }
+            for (int row = 0; row < BOARD_SIZE; row++) {
+                if (board[row] == null || board[row].length != BOARD_SIZE) {
+                    return false;
+                }
+                for (int column = 0; column < BOARD_SIZE; column++) {
+                    int cell = row * BOARD_SIZE + column;
+                    int value = board[row][column];
+                    if (value < NO_VALUE || value > BOARD_SIZE) {
+                        return false;
+                    }
+                    this.givens[cell] = value;
+                    if (value != NO_VALUE && !this.select(cell * BOARD_SIZE + value - 1)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean select(int row) {
+            int first = nodeOf(row);
+            for (int node = first; node < first + NODES_PER_ROW; node++) {
+                int header = this.column[node];
+                if (this.right[this.left[header]] != header) {
+                    return false;
+                }
+            }
+            for (int node = first; node < first + NODES_PER_ROW; node++) {
+                this.cover(this.column[node]);
+            }
+            return true;
+        }
+
+        private void store(int[][] board) {
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                board[cell / BOARD_SIZE][cell % BOARD_SIZE] = this.answer[cell];
+            }
+        }
+
+        private int count(int limit, BudgetTracker tracker) {
+            this.limit = limit;
+            this.tracker = tracker;
+            this.search(0);
+            this.tracker = null;
+            return this.found;
+        }
+
+        private void search(int depth) {
+            if (!this.tracker.visit()) {
+                return;
+            }
+            if (this.right[ROOT] == ROOT) {
+                if (this.found == 0) {
+                    this.record(depth);
+                }
+                this.found++;
+                return;
+            }
+
+            int header = this.chooseColumn();
+            if (this.size[header] == 0) {
+                this.tracker.backtrack();
+                return;
+            }
+
+            this.cover(header);
+            for (int node = this.down[header]; node != header && this.found < this.limit && !this.tracker.isExceeded(); node = this.down[node]) {
+                this.selected[depth] = node;
+                for (int j = this.right[node]; j != node; j = this.right[j]) {
+                    this.cover(this.column[j]);
+                }
+                this.search(depth + 1);
+                for (int j = this.left[node]; j != node; j = this.left[j]) {
+                    this.uncover(this.column[j]);
+                }
+            }
+            this.uncover(header);
+            if (this.found < this.limit) {
+                this.tracker.backtrack();
+            }
+        }
+
+        private int chooseColumn() {
+            int best = this.right[ROOT];
+            for (int header = this.right[best]; header != ROOT; header = this.right[header]) {
+                if (this.size[header] < this.size[best]) {
+                    best = header;
+                    if (this.size[best] <= 1) {
+                        break;
+                    }
+                }
+            }
+            return best;
+        }
+
+        private void record(int depth) {
+            System.arraycopy(this.givens, 0, this.answer, 0, CELL_COUNT);
+            for (int i = 0; i < depth; i++) {
+                int row = rowOf(this.selected[i]);
+                this.answer[row / BOARD_SIZE] = row % BOARD_SIZE + 1;
+            }
+        }
+
+        private void cover(int header) {
+            this.right[this.left[header]] = this.right[header];
+            this.left[this.right[header]] = this.left[header];
+            for (int i = this.down[header]; i != header; i = this.down[i]) {
+                for (int j = this.right[i]; j != i; j = this.right[j]) {
+                    this.down[this.up[j]] = this.down[j];
+                    this.up[this.down[j]] = this.up[j];
+                    this.size[this.column[j]]--;
+                }
+            }
+        }
+
+        private void uncover(int header) {
+            for (int i = this.up[header]; i != header; i = this.up[i]) {
+                for (int j = this.left[i]; j != i; j = this.left[j]) {
+                    this.size[this.column[j]]++;
+                    this.down[this.up[j]] = j;
+                    this.up[this.down[j]] = j;
+                }
+            }
+            this.right[this.left[header]] = header;
+            this.left[this.right[header]] = header;
+        }
+    }
+
+    private static int nodeOf(int row) {
+        return FIRST_ROW_NODE + row * NODES_PER_ROW;
+    }
+
+    private static int rowOf(int node) {
+        return (node - FIRST_ROW_NODE) / NODES_PER_ROW;
+    }
+
+    private static int[] constraintsOf(int row) {
+        int cell = row / BOARD_SIZE;
+        int digit = row % BOARD_SIZE;
+        int boardRow = cell / BOARD_SIZE;
+        int boardColumn = cell % BOARD_SIZE;
+        int box = (boardRow / SUBSECTION_SIZE) * SUBSECTION_SIZE + boardColumn / SUBSECTION_SIZE;
+        return new int[]{
+                cell,
+                CELL_COUNT + boardRow * BOARD_SIZE + digit,
+                2 * CELL_COUNT + boardColumn * BOARD_SIZE + digit,
+                3 * CELL_COUNT + box * BOARD_SIZE + digit
+        };
+    }
+}
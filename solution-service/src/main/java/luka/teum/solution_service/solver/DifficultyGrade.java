@@ -0,0 +1,75 @@
+package luka.teum.solution_service.solver;
+
+import lombok.Getter;
+import messaging.Solution;
+import messaging.solution.SolutionDifficulty;
+
+@Getter
+public class DifficultyGrade {
+
+    private static final Technique[] TECHNIQUES = Technique.values();
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+
+    static final int DIGITS_SHIFT = 0;
+    static final int CELL_SHIFT = 9;
+    static final int COUNT_SHIFT = 16;
+    static final int TECHNIQUE_SHIFT = 23;
+    static final int DIGITS_MASK = 0x1FF;
+    static final int CELL_MASK = 0x7F;
+    static final int COUNT_MASK = 0x7F;
+
+    private final SolutionDifficulty difficulty;
+    private final Technique hardestTechnique;
+    private final double rating;
+    private final boolean solvedByLogic;
+    private final int[] steps;
+
+    DifficultyGrade(SolutionDifficulty difficulty, Technique hardestTechnique, boolean solvedByLogic, int[] steps) {
+        this.difficulty = difficulty;
+        this.hardestTechnique = hardestTechnique;
+        this.rating = hardestTechnique == null ? 0 : hardestTechnique.getWeight() / 10.0;
+        this.solvedByLogic = solvedByLogic;
+        this.steps = steps;
+    }
+
+    public static DifficultyGrade unknown() {
+        return new DifficultyGrade(SolutionDifficulty.UNKNOWN, null, false, new int[0]);
+    }
+
+    public int getStepCount() {
+        return this.steps.length;
+    }
+
+    public String getStepLog() {
+        StringBuilder log = new StringBuilder(this.steps.length * 12);
+        for (int step : this.steps) {
+            Technique technique = TECHNIQUES[step >>> TECHNIQUE_SHIFT];
+            int cell = (step >>> CELL_SHIFT) & CELL_MASK;
+            int digits = (step >>> DIGITS_SHIFT) & DIGITS_MASK;
+            int count = (step >>> COUNT_SHIFT) & COUNT_MASK;
+
+            if (!log.isEmpty()) {
+                log.append(' ');
+            }
+            log.append(technique.getCode())
+                    .append(":r").append(cell / BOARD_SIZE + 1)
+                    .append('c').append(cell % BOARD_SIZE + 1);
+            if (technique == Technique.NAKED_SINGLE || technique == Technique.HIDDEN_SINGLE) {
+                log.append('=').append(Integer.numberOfTrailingZeros(digits) + 1);
+            } else {
+                log.append('[');
+                for (int bits = digits; bits != 0; bits &= bits - 1) {
+                    log.append(Integer.numberOfTrailingZeros(bits) + 1);
+                }
+                log.append("]-").append(count);
+            }
+        }
+        return log.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DifficultyGrade(difficulty=" + this.difficulty + ", rating=" + this.rating
+                + ", hardestTechnique=" + this.hardestTechnique + ", steps=" + this.steps.length + ")";
+    }
+}
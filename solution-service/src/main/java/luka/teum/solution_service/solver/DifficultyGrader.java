@@ -0,0 +1,41 @@
+package luka.teum.solution_service.solver;
+
+import messaging.solution.SolutionDifficulty;
+
+public class DifficultyGrader {
+
+    private static final Technique[] TECHNIQUES = Technique.values();
+    private static final ScratchPool<CandidateGrid> GRIDS = new ScratchPool<>(CandidateGrid::new);
+
+    public DifficultyGrade grade(int[][] puzzle) {
+        try (CandidateGrid grid = GRIDS.acquire()) {
+            if (!grid.load(puzzle)) {
+                return DifficultyGrade.unknown();
+            }
+            int outcome = grid.solve(SolveBudget.UNLIMITED.start());
+            if (outcome == CandidateGrid.CONTRADICTION) {
+                return DifficultyGrade.unknown();
+            }
+            Technique hardest = grid.getHardest() < 0 ? null : TECHNIQUES[grid.getHardest()];
+            boolean solved = outcome == CandidateGrid.SOLVED;
+            return new DifficultyGrade(difficultyOf(hardest, solved), hardest, solved, grid.copySteps());
+        }
+    }
+
+    private static SolutionDifficulty difficultyOf(Technique hardest, boolean solved) {
+        if (!solved) {
+            return SolutionDifficulty.EXTREME;
+        }
+        int weight = hardest == null ? 0 : hardest.getWeight();
+        if (weight <= Technique.HIDDEN_SINGLE.getWeight()) {
+            return SolutionDifficulty.EASY;
+        }
+        if (weight <= Technique.NAKED_SINGLE.getWeight()) {
+            return SolutionDifficulty.MEDIUM;
+        }
+        if (weight <= Technique.HIDDEN_PAIR.getWeight()) {
+            return SolutionDifficulty.HARD;
+        }
+        return SolutionDifficulty.EXPERT;
+    }
+}
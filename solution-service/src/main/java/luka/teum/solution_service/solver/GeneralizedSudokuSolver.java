@@ -0,0 +1,319 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+import java.util.Arrays;
+
+public class GeneralizedSudokuSolver implements SudokuSolver {
+
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+    private static final int MAX_BOX_SIZE = Solution.boxSizeOf(Solution.MAX_SUDOKU_SIZE);
+    private static final Topology[] TOPOLOGIES = new Topology[MAX_BOX_SIZE + 1];
+
+    static {
+        for (int boxSize = 1; boxSize <= MAX_BOX_SIZE; boxSize++) {
+            TOPOLOGIES[boxSize] = new Topology(boxSize);
+        }
+    }
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        int boxSize = board == null ? 0 : Solution.boxSizeOf(board.length);
+        if (limit <= 0 || boxSize == 0) {
+            return 0;
+        }
+        try (Grid grid = TOPOLOGIES[boxSize].grids.acquire()) {
+            if (!grid.load(board)) {
+                return 0;
+            }
+            int found = grid.count(limit, tracker);
+            if (found > 0) {
+                grid.store(board);
+            }
+            return found;
+        }
+    }
+
+    @Override
+    public boolean supportsSize(int size) {
+        return Solution.boxSizeOf(size) > 0;
+    }
+
+    private static final class Topology {
+
+        private final int size;
+        private final int cellCount;
+        private final long allDigits;
+        private final int[] rowOf;
+        private final int[] columnOf;
+        private final int[] boxOf;
+        private final int[][] units;
+        private final ScratchPool<Grid> grids;
+
+        private Topology(int boxSize) {
+            this.size = boxSize * boxSize;
+            this.cellCount = this.size * this.size;
+            this.allDigits = this.size == Long.SIZE ? -1L : (1L << this.size) - 1;
+            this.rowOf = new int[this.cellCount];
+            this.columnOf = new int[this.cellCount];
+            this.boxOf = new int[this.cellCount];
+            this.units = new int[this.size * 3][this.size];
+            this.grids = new ScratchPool<>(() -> new Grid(this));
+
+            for (int cell = 0; cell < this.cellCount; cell++) {
+                int row = cell / this.size;
+                int column = cell % this.size;
+                int box = (row / boxSize) * boxSize + column / boxSize;
+                int boxIndex = (row % boxSize) * boxSize + column % boxSize;
+
+                this.rowOf[cell] = row;
+                this.columnOf[cell] = column;
+                this.boxOf[cell] = box;
+
+                this.units[row][column] = cell;
+                this.units[this.size + column][row] = cell;
+                this.units[2 * this.size + box][boxIndex] = cell;
+            }
+        }
+    }
+
+    private static final class Grid extends Scratch {
+
+        private final Topology topology;
+        private BudgetTracker tracker;
+        private final int[] cells;
+        private final long[] rowMasks;
+        private final long[] columnMasks;
+        private final long[] boxMasks;
+        private final int[] trail;
+        private final int[] solution;
+
+        private final int[] nodeMarks;
+        private final int[] branchMarks;
+        private final int[] branchCells;
+        private final long[] branchCandidates;
+
+        private int trailSize;
+        private int found;
+
+        private Grid(Topology topology) {
+            this.topology = topology;
+            this.cells = new int[topology.cellCount];
+            this.rowMasks = new long[topology.size];
+            this.columnMasks = new long[topology.size];
+            this.boxMasks = new long[topology.size];
+            this.trail = new int[topology.cellCount];
+            this.solution = new int[topology.cellCount];
+            this.nodeMarks = new int[topology.cellCount];
+            this.branchMarks = new int[topology.cellCount];
+            this.branchCells = new int[topology.cellCount];
+            this.branchCandidates = new long[topology.cellCount];
+        }
+
+        @Override
+        protected void reset() {
+            Arrays.fill(this.cells, NO_VALUE);
+            Arrays.fill(this.rowMasks, 0);
+            Arrays.fill(this.columnMasks, 0);
+            Arrays.fill(this.boxMasks, 0);
+            this.trailSize = 0;
+            this.found = 0;
+        }
+
+        private boolean load(int[][] board) {
+            int size = this.topology.size;
+            for (int row = 0; row < size; row++) {
+                if (board[row] == null || board[row].length != size) {
+                    return false;
+                }
+                for (int column = 0; column < size; column++) {
+                    int value = board[row][column];
+                    if (value < NO_VALUE || value > size) {
+                        return false;
+                    }
+                    if (value != NO_VALUE && !this.place(row * size + column, 1L << (value - 1))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void store(int[][] board) {
+            for (int cell = 0; cell < this.topology.cellCount; cell++) {
+                board[this.topology.rowOf[cell]][this.topology.columnOf[cell]] = this.solution[cell];
+            }
+        }
+
+        private int count(int limit, BudgetTracker tracker) {
+            this.tracker = tracker;
+            int found = this.search(limit);
+            this.tracker = null;
+            return found;
+        }
+
+        private int search(int limit) {
+            int depth = 0;
+            while (true) {
+                if (this.tracker.visit()) {
+                    int mark = this.trailSize;
+                    int cell = this.propagate() ? this.chooseCell() : -1;
+                    if (cell >= 0) {
+                        this.nodeMarks[depth] = mark;
+                        this.branchMarks[depth] = this.trailSize;
+                        this.branchCells[depth] = cell;
+                        this.branchCandidates[depth] = this.candidates(cell);
+                        depth++;
+                    } else if (this.trailSize < this.topology.cellCount) {
+                        this.tracker.backtrack();
+                        this.undo(mark);
+                    } else {
+                        if (this.found++ == 0) {
+                            System.arraycopy(this.cells, 0, this.solution, 0, this.topology.cellCount);
+                        }
+                        if (this.found >= limit) {
+                            return this.found;
+                        }
+                        this.undo(mark);
+                    }
+                }
+
+                boolean advanced = false;
+                while (depth > 0 && !advanced) {
+                    int top = depth - 1;
+                    this.undo(this.branchMarks[top]);
+                    long candidates = this.branchCandidates[top];
+                    if (candidates == 0 || this.tracker.isExceeded()) {
+                        this.tracker.backtrack();
+                        this.undo(this.nodeMarks[top]);
+                        depth--;
+                    } else {
+                        long bit = candidates & -candidates;
+                        this.branchCandidates[top] = candidates ^ bit;
+                        this.place(this.branchCells[top], bit);
+                        advanced = true;
+                    }
+                }
+                if (!advanced) {
+                    return this.found;
+                }
+            }
+        }
+
+        private int chooseCell() {
+            int bestCell = -1;
+            int bestCount = Integer.MAX_VALUE;
+            for (int cell = 0; cell < this.topology.cellCount; cell++) {
+                if (this.cells[cell] != NO_VALUE) {
+                    continue;
+                }
+                int count = Long.bitCount(this.candidates(cell));
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestCount = count;
+                    if (count == 2) {
+                        break;
+                    }
+                }
+            }
+            return bestCell;
+        }
+
+        private boolean propagate() {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+
+                for (int cell = 0; cell < this.topology.cellCount; cell++) {
+                    if (this.cells[cell] != NO_VALUE) {
+                        continue;
+                    }
+                    long candidates = this.candidates(cell);
+                    if (candidates == 0) {
+                        return false;
+                    }
+                    if ((candidates & (candidates - 1)) == 0) {
+                        this.place(cell, candidates);
+                        this.tracker.propagate();
+                        changed = true;
+                    }
+                }
+
+                for (int[] unit : this.topology.units) {
+                    long placed = 0;
+                    long once = 0;
+                    long more = 0;
+                    for (int cell : unit) {
+                        if (this.cells[cell] != NO_VALUE) {
+                            placed |= 1L << (this.cells[cell] - 1);
+                        } else {
+                            long candidates = this.candidates(cell);
+                            more |= once & candidates;
+                            once |= candidates;
+                        }
+                    }
+                    if ((once | placed) != this.topology.allDigits) {
+                        return false;
+                    }
+
+                    long singles = once & ~more;
+                    while (singles != 0) {
+                        long bit = singles & -singles;
+                        singles ^= bit;
+                        int cell = this.findCell(unit, bit);
+                        if (cell < 0) {
+                            return false;
+                        }
+                        this.place(cell, bit);
+                        this.tracker.propagate();
+                        changed = true;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private int findCell(int[] unit, long bit) {
+            for (int cell : unit) {
+                if (this.cells[cell] == NO_VALUE && (this.candidates(cell) & bit) != 0) {
+                    return cell;
+                }
+            }
+            return -1;
+        }
+
+        private long candidates(int cell) {
+            return ~(this.rowMasks[this.topology.rowOf[cell]]
+                    | this.columnMasks[this.topology.columnOf[cell]]
+                    | this.boxMasks[this.topology.boxOf[cell]]) & this.topology.allDigits;
+        }
+
+        private boolean place(int cell, long bit) {
+            if (this.cells[cell] != NO_VALUE || (this.candidates(cell) & bit) == 0) {
+                return false;
+            }
+            this.cells[cell] = Long.numberOfTrailingZeros(bit) + 1;
+            this.rowMasks[this.topology.rowOf[cell]] |= bit;
+            this.columnMasks[this.topology.columnOf[cell]] |= bit;
+            this.boxMasks[this.topology.boxOf[cell]] |= bit;
+            this.trail[this.trailSize++] = cell;
+            return true;
+        }
+
+        private void undo(int mark) {
+            while (this.trailSize > mark) {
+                int cell = this.trail[--this.trailSize];
+                long bit = ~(1L << (this.cells[cell] - 1));
+                this.rowMasks[this.topology.rowOf[cell]] &= bit;
+                this.columnMasks[this.topology.columnOf[cell]] &= bit;
+                this.boxMasks[this.topology.boxOf[cell]] &= bit;
+                this.cells[cell] = NO_VALUE;
+            }
+        }
+    }
+}
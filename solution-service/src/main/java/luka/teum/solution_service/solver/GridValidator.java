@@ -0,0 +1,102 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+import java.util.Optional;
+
+public final class GridValidator {
+
+    private static final int NO_VALUE = Solution.NO_SOLUTION;
+
+    private GridValidator() {
+    }
+
+    public static Optional<String> findViolation(int[][] digits) {
+        int size = digits == null ? 0 : digits.length;
+        int boxSize = Solution.boxSizeOf(size);
+        if (boxSize == 0) {
+            return Optional.of("Grid must have " + Solution.SUDOKU_SIZE
+                    + " rows or another square number up to " + Solution.MAX_SUDOKU_SIZE);
+        }
+        long allDigits = size == Long.SIZE ? -1L : (1L << size) - 1;
+
+        long[] rows = new long[size];
+        long[] columns = new long[size];
+        long[] boxes = new long[size];
+
+        for (int row = 0; row < size; row++) {
+            if (digits[row] == null || digits[row].length != size) {
+                return Optional.of("Row " + (row + 1) + " must have " + size + " cells");
+            }
+            for (int column = 0; column < size; column++) {
+                int value = digits[row][column];
+                if (value < NO_VALUE || value > size) {
+                    return Optional.of("Cell " + cellName(row, column) + " has value " + value + " outside 0.." + size);
+                }
+                if (value == NO_VALUE) {
+                    continue;
+                }
+
+                long bit = 1L << (value - 1);
+                int box = boxOf(row, column, boxSize);
+                if ((rows[row] & bit) != 0) {
+                    return Optional.of("Digit " + value + " repeats in row " + (row + 1));
+                }
+                if ((columns[column] & bit) != 0) {
+                    return Optional.of("Digit " + value + " repeats in column " + (column + 1));
+                }
+                if ((boxes[box] & bit) != 0) {
+                    return Optional.of("Digit " + value + " repeats in box " + (box + 1));
+                }
+                rows[row] |= bit;
+                columns[column] |= bit;
+                boxes[box] |= bit;
+            }
+        }
+
+        long[] rowReach = rows.clone();
+        long[] columnReach = columns.clone();
+        long[] boxReach = boxes.clone();
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (digits[row][column] != NO_VALUE) {
+                    continue;
+                }
+                int box = boxOf(row, column, boxSize);
+                long candidates = ~(rows[row] | columns[column] | boxes[box]) & allDigits;
+                if (candidates == 0) {
+                    return Optional.of("Cell " + cellName(row, column) + " has no candidates");
+                }
+                rowReach[row] |= candidates;
+                columnReach[column] |= candidates;
+                boxReach[box] |= candidates;
+            }
+        }
+
+        for (int unit = 0; unit < size; unit++) {
+            if (rowReach[unit] != allDigits) {
+                return Optional.of("Row " + (unit + 1) + " has no place for digit " + missingDigit(rowReach[unit], allDigits));
+            }
+            if (columnReach[unit] != allDigits) {
+                return Optional.of("Column " + (unit + 1) + " has no place for digit " + missingDigit(columnReach[unit], allDigits));
+            }
+            if (boxReach[unit] != allDigits) {
+                return Optional.of("Box " + (unit + 1) + " has no place for digit " + missingDigit(boxReach[unit], allDigits));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int boxOf(int row, int column, int boxSize) {
+        return (row / boxSize) * boxSize + column / boxSize;
+    }
+
+    private static int missingDigit(long mask, long allDigits) {
+        return Long.numberOfTrailingZeros(~mask & allDigits) + 1;
+    }
+
+    private static String cellName(int row, int column) {
+        return "(" + (row + 1) + ", " + (column + 1) + ")";
+    }
+}
@@ -0,0 +1,13 @@
+package luka.teum.solution_service.solver;
+
+public abstract class Scratch implements AutoCloseable {
+
+    boolean acquired;
+
+    protected abstract void reset();
+
+    @Override
+    public void close() {
+        this.acquired = false;
+    }
+}
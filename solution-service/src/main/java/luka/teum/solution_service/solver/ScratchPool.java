@@ -0,0 +1,25 @@
+package luka.teum.solution_service.solver;
+
+import java.util.function.Supplier;
+
+public final class ScratchPool<T extends Scratch> {
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<T> local;
+
+    public ScratchPool(Supplier<T> factory) {
+        this.factory = factory;
+        this.local = ThreadLocal.withInitial(factory);
+    }
+
+    public T acquire() {
+        T scratch = this.local.get();
+        if (scratch.acquired) {
+            // Re-entrant use on the same thread, e.g. a solver falling back to itself: hand out a private copy.
+            scratch = this.factory.get();
+        }
+        scratch.acquired = true;
+        scratch.reset();
+        return scratch;
+    }
+}
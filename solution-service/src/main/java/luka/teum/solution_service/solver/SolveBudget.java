@@ -0,0 +1,21 @@
+package luka.teum.solution_service.solver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class SolveBudget {
+
+    public static final long NO_LIMIT = 0;
+    public static final SolveBudget UNLIMITED = new SolveBudget(NO_LIMIT, NO_LIMIT);
+
+    private final long maxNodes;
+    private final long maxTimeMs;
+
+    public BudgetTracker start() {
+        return new BudgetTracker(this);
+    }
+}
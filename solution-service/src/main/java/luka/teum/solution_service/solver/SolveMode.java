@@ -0,0 +1,15 @@
+package luka.teum.solution_service.solver;
+
+import lombok.Getter;
+
+@Getter
+public enum SolveMode {
+    FIRST(1),
+    UNIQUE(2);
+
+    private final int solutionLimit;
+
+    SolveMode(int solutionLimit) {
+        this.solutionLimit = solutionLimit;
+    }
+}
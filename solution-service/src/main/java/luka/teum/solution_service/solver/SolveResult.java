@@ -0,0 +1,105 @@
+package luka.teum.solution_service.solver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class SolveResult {
+
+    private final SolveStatus status;
+    private final Solution solution;
+    private final String reason;
+    private final SolutionUniqueness uniqueness;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final long backtracks;
+    private final long propagations;
+    private final int repairedCells;
+    @ToString.Exclude
+    private final int[][] puzzle;
+    private final DifficultyGrade grade;
+
+    public static SolveResult fromSearch(int found, SolveMode mode, Solution solution, BudgetTracker tracker) {
+        if (found > 0) {
+            return new SolveResult(SolveStatus.SOLVED, solution, null, uniqueness(found, mode, tracker),
+                    tracker.getNodes(), tracker.getElapsedNanos(), tracker.getBacktracks(),
+                    tracker.getPropagations(), 0, null, null);
+        }
+        if (tracker.isCancelled()) {
+            return new SolveResult(SolveStatus.CANCELLED, new Solution(), "Search was cancelled",
+                    SolutionUniqueness.UNKNOWN, tracker.getNodes(), tracker.getElapsedNanos(), tracker.getBacktracks(),
+                    tracker.getPropagations(), 0, null, null);
+        }
+        if (tracker.isExceeded()) {
+            return new SolveResult(SolveStatus.BUDGET_EXCEEDED, new Solution(), "Solve budget exceeded",
+                    SolutionUniqueness.UNKNOWN, tracker.getNodes(), tracker.getElapsedNanos(), tracker.getBacktracks(),
+                    tracker.getPropagations(), 0, null, null);
+        }
+        return new SolveResult(SolveStatus.UNSOLVABLE, new Solution(), "No solution found",
+                SolutionUniqueness.NONE, tracker.getNodes(), tracker.getElapsedNanos(), tracker.getBacktracks(),
+                tracker.getPropagations(), 0, null, null);
+    }
+
+    public static SolveResult forced(Solution solution) {
+        // Every digit was a single, so no other completion exists and no search was needed.
+        return new SolveResult(SolveStatus.SOLVED, solution, null, SolutionUniqueness.UNIQUE, 0, 0, 0, 0, 0, null, null);
+    }
+
+    public static SolveResult unsolvable() {
+        return new SolveResult(SolveStatus.UNSOLVABLE, new Solution(), "No solution found",
+                SolutionUniqueness.NONE, 0, 0, 0, 0, 0, null, null);
+    }
+
+    public static SolveResult incomplete(String reason) {
+        return new SolveResult(SolveStatus.UNSOLVABLE, new Solution(), reason,
+                SolutionUniqueness.UNKNOWN, 0, 0, 0, 0, 0, null, null);
+    }
+
+    public static SolveResult invalidInput(String reason) {
+        return new SolveResult(SolveStatus.INVALID_INPUT, new Solution(), reason,
+                SolutionUniqueness.NONE, 0, 0, 0, 0, 0, null, null);
+    }
+
+    public SolveResult withRepairedCells(int repairedCells) {
+        return new SolveResult(this.status, this.solution, this.reason, this.uniqueness,
+                this.nodes, this.elapsedNanos, this.backtracks, this.propagations,
+                repairedCells, this.puzzle, this.grade);
+    }
+
+    public SolveResult withEffort(long nodes, long elapsedNanos, long backtracks, long propagations) {
+        return new SolveResult(this.status, this.solution, this.reason, this.uniqueness,
+                nodes, elapsedNanos, backtracks, propagations,
+                this.repairedCells, this.puzzle, this.grade);
+    }
+
+    public SolveResult withPuzzle(int[][] puzzle) {
+        return new SolveResult(this.status, this.solution, this.reason, this.uniqueness,
+                this.nodes, this.elapsedNanos, this.backtracks, this.propagations,
+                this.repairedCells, puzzle, this.grade);
+    }
+
+    public SolveResult withGrade(DifficultyGrade grade) {
+        return new SolveResult(this.status, this.solution, this.reason, this.uniqueness,
+                this.nodes, this.elapsedNanos, this.backtracks, this.propagations,
+                this.repairedCells, this.puzzle, grade);
+    }
+
+    public boolean isSolved() {
+        return this.status == SolveStatus.SOLVED;
+    }
+
+    private static SolutionUniqueness uniqueness(int found, SolveMode mode, BudgetTracker tracker) {
+        if (found > 1) {
+            return SolutionUniqueness.MULTIPLE;
+        }
+        if (mode.getSolutionLimit() > 1 && !tracker.isExceeded()) {
+            return SolutionUniqueness.UNIQUE;
+        }
+        return SolutionUniqueness.UNKNOWN;
+    }
+}
@@ -0,0 +1,9 @@
+package luka.teum.solution_service.solver;
+
+public enum SolveStatus {
+    SOLVED,
+    UNSOLVABLE,
+    BUDGET_EXCEEDED,
+    CANCELLED,
+    INVALID_INPUT
+}
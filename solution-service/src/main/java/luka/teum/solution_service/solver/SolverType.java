@@ -0,0 +1,24 @@
+package luka.teum.solution_service.solver;
+
+import lombok.Getter;
+
+import java.util.function.Supplier;
+
+@Getter
+public enum SolverType {
+    BACKTRACKING(BacktrackingSudokuSolver::new),
+    BITMASK(BitmaskSudokuSolver::new),
+    DANCING_LINKS(DancingLinksSudokuSolver::new),
+    GENERALIZED(GeneralizedSudokuSolver::new),
+    TECHNIQUE(TechniqueSudokuSolver::new);
+
+    private final Supplier<SudokuSolver> factory;
+
+    SolverType(Supplier<SudokuSolver> factory) {
+        this.factory = factory;
+    }
+
+    public SudokuSolver create() {
+        return this.factory.get();
+    }
+}
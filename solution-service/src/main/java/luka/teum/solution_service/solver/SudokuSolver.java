@@ -2,91 +2,75 @@ package luka.teum.solution_service.solver;
 
 import messaging.Solution;
 
-import java.util.stream.IntStream;
+import java.util.Optional;
 
-public class SudokuSolver {
+public interface SudokuSolver {
 
-    private static final int SUBSECTION_SIZE = 3;
-    private static final int BOARD_START_INDEX = 0;
-    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
-    private static final int NO_VALUE = Solution.NO_SOLUTION;
-    private static final int MIN_VALUE = 1;
-    private static final int MAX_VALUE = 9;
+    boolean solve(int[][] board, BudgetTracker tracker);
 
-    public Solution solve(Solution solution) {
-        int[][] answer = this.getSolve(solution.getDigits());
-        return new Solution(answer);
+    int countSolutions(int[][] board, int limit, BudgetTracker tracker);
+
+    default boolean supportsSize(int size) {
+        return size == Solution.SUDOKU_SIZE;
     }
 
-    public int[][] getSolve(int[][] digits) {
-        if (this.solve(digits)) {
-            return digits;
-        }
-        return new int[0][0];
+    default boolean solve(int[][] board, SolveBudget budget) {
+        return this.solve(board, budget.start());
+    }
+
+    default boolean solve(int[][] board) {
+        return this.solve(board, SolveBudget.UNLIMITED);
     }
 
-    public boolean solve(int[][] board) {
-        return IntStream.range(BOARD_START_INDEX, BOARD_SIZE)
-                .boxed()
-                .flatMap(row -> IntStream.range(BOARD_START_INDEX, BOARD_SIZE)
-                        .mapToObj(column -> new int[]{row, column}))
-                .filter(position -> board[position[0]][position[1]] == NO_VALUE)
-                .findFirst()
-                .map(position -> this.solveCell(board, position[0], position[1]))
-                .orElse(true);
+    default int countSolutions(int[][] board, int limit) {
+        return this.countSolutions(board, limit, SolveBudget.UNLIMITED.start());
     }
 
-    private boolean solveCell(int[][] board, int row, int column) {
-        return IntStream.rangeClosed(MIN_VALUE, MAX_VALUE)
-                .anyMatch(value -> {
-                    board[row][column] = value;
-                    boolean isValid = this.isValid(board, row, column) && this.solve(board);
-                    if (!isValid) {
-                        board[row][column] = NO_VALUE;
-                    }
-                    return isValid;
-                });
+    default int[][] getSolve(int[][] digits) {
+        return this.getSolve(digits, SolveBudget.UNLIMITED);
     }
 
-    private boolean isValid(int[][] board, int row, int column) {
-        return this.rowConstraint(board, row)
-                && this.columnConstraint(board, column)
-                && this.subsectionConstraint(board, row, column);
+    default int[][] getSolve(int[][] digits, SolveBudget budget) {
+        if (this.solve(digits, budget)) {
+            return digits;
+        }
+        return new int[0][0];
     }
 
-    private boolean rowConstraint(int[][] board, int row) {
-        boolean[] constraint = new boolean[BOARD_SIZE];
-        return IntStream.range(BOARD_START_INDEX, BOARD_SIZE)
-                .allMatch(column -> this.checkConstraint(board, row, constraint, column));
+    default Solution solve(Solution solution) {
+        return this.solve(solution, SolveBudget.UNLIMITED);
     }
 
-    private boolean columnConstraint(int[][] board, int column) {
-        boolean[] constraint = new boolean[BOARD_SIZE];
-        return IntStream.range(BOARD_START_INDEX, BOARD_SIZE)
-                .allMatch(row -> this.checkConstraint(board, row, constraint, column));
+    default Solution solve(Solution solution, SolveBudget budget) {
+        int[][] answer = this.getSolve(solution.getDigits(), budget);
+        return new Solution(answer);
     }
 
-    private boolean subsectionConstraint(int[][] board, int row, int column) {
-        boolean[] constraint = new boolean[BOARD_SIZE];
-        int subsectionRowStart = (row / SUBSECTION_SIZE) * SUBSECTION_SIZE;
-        int subsectionColumnStart = (column / SUBSECTION_SIZE) * SUBSECTION_SIZE;
+    default SolveResult trySolve(Solution solution, SolveBudget budget) {
+        return this.trySolve(solution, budget, SolveMode.FIRST);
+    }
 
-        return IntStream.range(subsectionRowStart, subsectionRowStart + SUBSECTION_SIZE)
-                .boxed()
-                .flatMap(r -> IntStream.range(subsectionColumnStart, subsectionColumnStart + SUBSECTION_SIZE)
-                        .mapToObj(c -> new int[]{r, c}))
-                .allMatch(cell -> this.checkConstraint(board, cell[0], constraint, cell[1]));
+    default SolveResult trySolve(Solution solution, SolveBudget budget, SolveMode mode) {
+        int[][] digits = solution.getDigits();
+        Optional<String> violation = GridValidator.findViolation(digits);
+        if (violation.isPresent()) {
+            return SolveResult.invalidInput(violation.get());
+        }
+        if (!this.supportsSize(digits.length)) {
+            return SolveResult.invalidInput("Grid size " + digits.length + " is not supported by this solver");
+        }
+        // The search fills its board in place, so it runs on a copy and the caller's grid is left untouched.
+        int[][] working = copyOf(digits);
+        BudgetTracker tracker = budget.start();
+        int found = this.countSolutions(working, mode.getSolutionLimit(), tracker);
+        return SolveResult.fromSearch(found, mode, new Solution(working), tracker).withPuzzle(copyOf(digits));
     }
 
-    private boolean checkConstraint(int[][] board, int row, boolean[] constraint, int column) {
-        if (board[row][column] != NO_VALUE) {
-            int valueIndex = board[row][column] - 1;
-            if (!constraint[valueIndex]) {
-                constraint[valueIndex] = true;
-            } else {
-                return false;
-            }
+    private static int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
         }
-        return true;
+        return copy;
     }
 }
@@ -0,0 +1,25 @@
+package luka.teum.solution_service.solver;
+
+import lombok.Getter;
+
+@Getter
+public enum Technique {
+    HIDDEN_SINGLE("HS", 15),
+    NAKED_SINGLE("NS", 23),
+    POINTING("PT", 26),
+    CLAIMING("CL", 28),
+    NAKED_PAIR("NP", 30),
+    X_WING("XW", 32),
+    HIDDEN_PAIR("HP", 34),
+    NAKED_TRIPLE("NT", 36),
+    SWORDFISH("SF", 38),
+    HIDDEN_TRIPLE("HT", 40);
+
+    private final String code;
+    private final int weight;
+
+    Technique(String code, int weight) {
+        this.code = code;
+        this.weight = weight;
+    }
+}
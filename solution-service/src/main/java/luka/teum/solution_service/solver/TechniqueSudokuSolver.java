@@ -0,0 +1,54 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+
+public class TechniqueSudokuSolver implements SudokuSolver {
+
+    private static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    private static final ScratchPool<Workspace> WORKSPACES = new ScratchPool<>(Workspace::new);
+
+    private final SudokuSolver fallback = new BitmaskSudokuSolver();
+
+    @Override
+    public boolean solve(int[][] board, BudgetTracker tracker) {
+        return this.countSolutions(board, 1, tracker) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+        try (Workspace workspace = WORKSPACES.acquire()) {
+            CandidateGrid grid = workspace.grid;
+            if (limit <= 0 || !grid.load(board)) {
+                return 0;
+            }
+            switch (grid.solve(tracker)) {
+                case CandidateGrid.SOLVED:
+                    grid.store(board);
+                    return 1;
+                case CandidateGrid.STALLED:
+                    int[][] scratch = workspace.board;
+                    grid.store(scratch);
+                    int found = this.fallback.countSolutions(scratch, limit, tracker);
+                    if (found > 0) {
+                        for (int row = 0; row < BOARD_SIZE; row++) {
+                            System.arraycopy(scratch[row], 0, board[row], 0, BOARD_SIZE);
+                        }
+                    }
+                    return found;
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    private static final class Workspace extends Scratch {
+
+        private final CandidateGrid grid = new CandidateGrid();
+        private final int[][] board = new int[BOARD_SIZE][BOARD_SIZE];
+
+        @Override
+        protected void reset() {
+            this.grid.reset();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package luka.teum.solution_service.solver.bulk;
+
+import lombok.Getter;
+import luka.teum.solution_service.solver.Scratch;
+import messaging.Solution;
+
+import java.util.Arrays;
+
+@Getter
+public final class BoardSlab extends Scratch {
+
+    public static final int SUBSECTION_SIZE = 3;
+    public static final int BOARD_SIZE = Solution.SUDOKU_SIZE;
+    public static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    public static final int UNIT_COUNT = BOARD_SIZE * 3;
+    public static final short ALL_DIGITS = (1 << BOARD_SIZE) - 1;
+
+    static final int[][] UNITS = new int[UNIT_COUNT][BOARD_SIZE];
+    static final int[] ROW_OF = new int[CELL_COUNT];
+    static final int[] COLUMN_OF = new int[CELL_COUNT];
+    static final int[] BOX_OF = new int[CELL_COUNT];
+
+    private static final int LANE_ALIGNMENT = 64;
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / BOARD_SIZE;
+            int column = cell % BOARD_SIZE;
+            int box = (row / SUBSECTION_SIZE) * SUBSECTION_SIZE + column / SUBSECTION_SIZE;
+            int boxIndex = (row % SUBSECTION_SIZE) * SUBSECTION_SIZE + column % SUBSECTION_SIZE;
+
+            ROW_OF[cell] = row;
+            COLUMN_OF[cell] = BOARD_SIZE + column;
+            BOX_OF[cell] = 2 * BOARD_SIZE + box;
+
+            UNITS[row][column] = cell;
+            UNITS[BOARD_SIZE + column][row] = cell;
+            UNITS[2 * BOARD_SIZE + box][boxIndex] = cell;
+        }
+    }
+
+    private final int capacity;
+    private final short[] values;
+    private final short[] candidates;
+    private final short[] unitMasks;
+    private final short[] failures;
+    private int size;
+
+    public BoardSlab(int boards) {
+        this.capacity = Math.max(1, (boards + LANE_ALIGNMENT - 1) / LANE_ALIGNMENT) * LANE_ALIGNMENT;
+        this.values = new short[CELL_COUNT * this.capacity];
+        this.candidates = new short[CELL_COUNT * this.capacity];
+        this.unitMasks = new short[UNIT_COUNT * this.capacity];
+        this.failures = new short[this.capacity];
+    }
+
+    public boolean add(int[][] board) {
+        if (this.size == this.capacity) {
+            return false;
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            this.values[cell * this.capacity + this.size] = (short) board[cell / BOARD_SIZE][cell % BOARD_SIZE];
+        }
+        this.size++;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(this.values, (short) 0);
+        Arrays.fill(this.failures, (short) 0);
+        this.size = 0;
+    }
+
+    @Override
+    protected void reset() {
+        this.clear();
+    }
+
+    public boolean isFailed(int board) {
+        return this.failures[board] != 0;
+    }
+
+    public void store(int board, int[][] target) {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            target[cell / BOARD_SIZE][cell % BOARD_SIZE] = this.values[cell * this.capacity + board];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package luka.teum.solution_service.solver.bulk;
+
+import lombok.Getter;
+import luka.teum.solution_service.solver.GridValidator;
+import luka.teum.solution_service.solver.Scratch;
+import luka.teum.solution_service.solver.ScratchPool;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkSudokuSolver {
+
+    @Getter
+    private final CandidateKernel kernel;
+    private final SudokuSolver solver;
+    private final int slabSize;
+    private final ScratchPool<BoardSlab> slabs;
+    private final ScratchPool<ReducedBoard> reducedBoards = new ScratchPool<>(ReducedBoard::new);
+
+    public BulkSudokuSolver(CandidateKernel kernel, SudokuSolver solver, int slabSize) {
+        this.kernel = kernel;
+        this.solver = solver;
+        this.slabSize = Math.max(1, slabSize);
+        this.slabs = new ScratchPool<>(() -> new BoardSlab(this.slabSize));
+    }
+
+    public List<SolveResult> solveAll(List<int[][]> boards, SolveBudget budget, SolveMode mode) {
+        List<SolveResult> results = new ArrayList<>(boards.size());
+        try (BoardSlab slab = this.slabs.acquire(); ReducedBoard reduced = this.reducedBoards.acquire()) {
+            for (int start = 0; start < boards.size(); start += this.slabSize) {
+                List<int[][]> chunk = boards.subList(start, Math.min(boards.size(), start + this.slabSize));
+                slab.clear();
+                chunk.forEach(slab::add);
+                this.presolve(slab);
+
+                for (int board = 0; board < chunk.size(); board++) {
+                    int[][] puzzle = chunk.get(board);
+                    if (!slab.isFailed(board)) {
+                        slab.store(board, reduced.cells);
+                        if (isComplete(reduced.cells) && GridValidator.findViolation(reduced.cells).isEmpty()) {
+                            results.add(SolveResult.forced(new Solution(copyOf(reduced.cells))).withPuzzle(copyOf(puzzle)));
+                            continue;
+                        }
+                    }
+                    // Searching from the original givens keeps cache keys identical to single-puzzle requests.
+                    results.add(this.solver.trySolve(new Solution(puzzle), budget, mode));
+                }
+            }
+        }
+        return results;
+    }
+
+    public void presolve(BoardSlab slab) {
+        do {
+            this.kernel.computeCandidates(slab);
+        } while (this.kernel.fillSingles(slab));
+    }
+
+    private static boolean isComplete(int[][] board) {
+        for (int[] row : board) {
+            for (int value : row) {
+                if (value == Solution.NO_SOLUTION) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
+        }
+        return copy;
+    }
+
+    private static final class ReducedBoard extends Scratch {
+
+        private final int[][] cells = new int[BoardSlab.BOARD_SIZE][BoardSlab.BOARD_SIZE];
+
+        @Override
+        protected void reset() {
+            // Every cell is overwritten by BoardSlab.store before it is read.
+        }
+    }
+}
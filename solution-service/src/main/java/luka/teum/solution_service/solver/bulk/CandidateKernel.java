@@ -0,0 +1,8 @@
+package luka.teum.solution_service.solver.bulk;
+
+public interface CandidateKernel {
+
+    void computeCandidates(BoardSlab slab);
+
+    boolean fillSingles(BoardSlab slab);
+}
@@ -0,0 +1,29 @@
+package luka.teum.solution_service.solver.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class CandidateKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private CandidateKernels() {
+    }
+
+    public static CandidateKernel create(boolean preferVector) {
+        if (preferVector && isVectorAvailable()) {
+            try {
+                return new VectorCandidateKernel();
+            } catch (LinkageError e) {
+                log.warn("Vector candidate kernel failed to load, using scalar kernel: {}", e.getMessage());
+            }
+        } else if (preferVector) {
+            log.info("Module {} is not enabled, using scalar candidate kernel", VECTOR_MODULE);
+        }
+        return new ScalarCandidateKernel();
+    }
+
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+}
@@ -0,0 +1,61 @@
+package luka.teum.solution_service.solver.bulk;
+
+public class ScalarCandidateKernel implements CandidateKernel {
+
+    private static final short DEAD_CELL = Short.MIN_VALUE;
+
+    @Override
+    public void computeCandidates(BoardSlab slab) {
+        int capacity = slab.getCapacity();
+        short[] values = slab.getValues();
+        short[] masks = slab.getUnitMasks();
+        short[] candidates = slab.getCandidates();
+        short[] failures = slab.getFailures();
+
+        for (int unit = 0; unit < BoardSlab.UNIT_COUNT; unit++) {
+            int maskOffset = unit * capacity;
+            for (int board = 0; board < capacity; board++) {
+                int mask = 0;
+                int duplicates = 0;
+                for (int cell : BoardSlab.UNITS[unit]) {
+                    int value = values[cell * capacity + board];
+                    int bit = value == 0 ? 0 : 1 << (value - 1);
+                    duplicates |= mask & bit;
+                    mask |= bit;
+                }
+                masks[maskOffset + board] = (short) mask;
+                failures[board] |= (short) duplicates;
+            }
+        }
+
+        for (int cell = 0; cell < BoardSlab.CELL_COUNT; cell++) {
+            int offset = cell * capacity;
+            int row = BoardSlab.ROW_OF[cell] * capacity;
+            int column = BoardSlab.COLUMN_OF[cell] * capacity;
+            int box = BoardSlab.BOX_OF[cell] * capacity;
+            for (int board = 0; board < capacity; board++) {
+                int used = masks[row + board] | masks[column + board] | masks[box + board];
+                int free = values[offset + board] == 0 ? ~used & BoardSlab.ALL_DIGITS : 0;
+                candidates[offset + board] = (short) free;
+                if (free == 0 && values[offset + board] == 0) {
+                    failures[board] |= DEAD_CELL;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean fillSingles(BoardSlab slab) {
+        short[] values = slab.getValues();
+        short[] candidates = slab.getCandidates();
+        boolean changed = false;
+        for (int i = 0; i < values.length; i++) {
+            int free = candidates[i];
+            if (free != 0 && (free & (free - 1)) == 0) {
+                values[i] = (short) (Integer.numberOfTrailingZeros(free) + 1);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,83 @@
+package luka.teum.solution_service.solver.bulk;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorCandidateKernel implements CandidateKernel {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final short DEAD_CELL = Short.MIN_VALUE;
+
+    @Override
+    public void computeCandidates(BoardSlab slab) {
+        int capacity = slab.getCapacity();
+        short[] values = slab.getValues();
+        short[] masks = slab.getUnitMasks();
+        short[] candidates = slab.getCandidates();
+        short[] failures = slab.getFailures();
+        ShortVector one = ShortVector.broadcast(SPECIES, (short) 1);
+
+        for (int unit = 0; unit < BoardSlab.UNIT_COUNT; unit++) {
+            int maskOffset = unit * capacity;
+            for (int board = 0; board < capacity; board += SPECIES.length()) {
+                ShortVector mask = ShortVector.zero(SPECIES);
+                ShortVector duplicates = ShortVector.zero(SPECIES);
+                for (int cell : BoardSlab.UNITS[unit]) {
+                    ShortVector value = ShortVector.fromArray(SPECIES, values, cell * capacity + board);
+                    ShortVector bit = one.lanewise(VectorOperators.LSHL, value.sub((short) 1))
+                            .blend((short) 0, value.eq((short) 0));
+                    duplicates = duplicates.or(mask.and(bit));
+                    mask = mask.or(bit);
+                }
+                mask.intoArray(masks, maskOffset + board);
+                ShortVector.fromArray(SPECIES, failures, board).or(duplicates).intoArray(failures, board);
+            }
+        }
+
+        for (int cell = 0; cell < BoardSlab.CELL_COUNT; cell++) {
+            int offset = cell * capacity;
+            int row = BoardSlab.ROW_OF[cell] * capacity;
+            int column = BoardSlab.COLUMN_OF[cell] * capacity;
+            int box = BoardSlab.BOX_OF[cell] * capacity;
+            for (int board = 0; board < capacity; board += SPECIES.length()) {
+                ShortVector used = ShortVector.fromArray(SPECIES, masks, row + board)
+                        .or(ShortVector.fromArray(SPECIES, masks, column + board))
+                        .or(ShortVector.fromArray(SPECIES, masks, box + board));
+                VectorMask<Short> empty = ShortVector.fromArray(SPECIES, values, offset + board).eq((short) 0);
+                ShortVector free = used.not().and(BoardSlab.ALL_DIGITS).blend((short) 0, empty.not());
+                free.intoArray(candidates, offset + board);
+
+                VectorMask<Short> dead = empty.and(free.eq((short) 0));
+                if (dead.anyTrue()) {
+                    ShortVector.fromArray(SPECIES, failures, board)
+                            .lanewise(VectorOperators.OR, DEAD_CELL, dead)
+                            .intoArray(failures, board);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean fillSingles(BoardSlab slab) {
+        short[] values = slab.getValues();
+        short[] candidates = slab.getCandidates();
+        boolean changed = false;
+        for (int i = 0; i < values.length; i += SPECIES.length()) {
+            ShortVector free = ShortVector.fromArray(SPECIES, candidates, i);
+            VectorMask<Short> single = free.compare(VectorOperators.NE, (short) 0)
+                    .and(free.and(free.sub((short) 1)).eq((short) 0));
+            if (!single.anyTrue()) {
+                continue;
+            }
+            ShortVector value = ShortVector.fromArray(SPECIES, values, i);
+            for (int digit = 0; digit < BoardSlab.BOARD_SIZE; digit++) {
+                value = value.blend((short) (digit + 1), free.eq((short) (1 << digit)));
+            }
+            value.intoArray(values, i);
+            changed = true;
+        }
+        return changed;
+    }
+}
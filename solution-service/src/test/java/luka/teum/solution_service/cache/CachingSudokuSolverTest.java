@@ -0,0 +1,95 @@
+package luka.teum.solution_service.cache;
+
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.BudgetTracker;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingSudokuSolverTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final SudokuSolver delegate = new BitmaskSudokuSolver() {
+        @Override
+        public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+            delegateCalls.incrementAndGet();
+            return super.countSolutions(board, limit, tracker);
+        }
+    };
+
+    @Test
+    void isomorphicPuzzleHitsCache() {
+        SolutionCache cache = new SolutionCache(16);
+        SudokuSolver solver = new CachingSudokuSolver(this.delegate, cache);
+
+        assertTrue(solver.solve(parse(EASY), SolveBudget.UNLIMITED));
+        int[][] isomorphic = isomorphic(parse(EASY));
+        assertTrue(solver.solve(isomorphic, SolveBudget.UNLIMITED));
+
+        assertArrayEquals(isomorphic(parse(EASY_SOLUTION)), isomorphic);
+        assertEquals(1, this.delegateCalls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void uniquenessIsCachedOnlyOnceKnown() {
+        SolutionCache cache = new SolutionCache(16);
+        SudokuSolver solver = new CachingSudokuSolver(this.delegate, cache);
+
+        assertTrue(solver.solve(parse(EASY), SolveBudget.UNLIMITED));
+        assertEquals(1, solver.countSolutions(parse(EASY), 2));
+        assertEquals(1, solver.countSolutions(parse(EASY), 2));
+
+        assertEquals(2, this.delegateCalls.get());
+    }
+
+    @Test
+    void unsolvablePuzzleIsCachedAndBoundedSizeEvicts() {
+        SolutionCache cache = new SolutionCache(1);
+        SudokuSolver solver = new CachingSudokuSolver(this.delegate, cache);
+
+        assertFalse(solver.solve(parse(DUPLICATE_IN_ROW), SolveBudget.UNLIMITED));
+        assertFalse(solver.solve(parse(DUPLICATE_IN_ROW), SolveBudget.UNLIMITED));
+        assertTrue(solver.solve(parse(EASY), SolveBudget.UNLIMITED));
+
+        assertEquals(2, this.delegateCalls.get());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(1, cache.size());
+    }
+
+    private static int[][] isomorphic(int[][] digits) {
+        int[][] result = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int row = 0; row < Solution.SUDOKU_SIZE; row++) {
+            int sourceColumn = (row + 3) % Solution.SUDOKU_SIZE;
+            for (int column = 0; column < Solution.SUDOKU_SIZE; column++) {
+                int value = digits[column][sourceColumn];
+                result[row][column] = value == Solution.NO_SOLUTION ? value : value % Solution.SUDOKU_SIZE + 1;
+            }
+        }
+        return result;
+    }
+
+    private static int[][] parse(String line) {
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < line.length(); i++) {
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] = line.charAt(i) - '0';
+        }
+        return digits;
+    }
+}
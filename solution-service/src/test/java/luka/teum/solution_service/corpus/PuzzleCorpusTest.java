@@ -0,0 +1,115 @@
+package luka.teum.solution_service.corpus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PuzzleCorpusTest {
+
+    private static final int RECORDS = 25;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsRecordsAcrossSegments() throws IOException {
+        Path file = this.write(RECORDS);
+
+        // Seven records per mapping forces several segments and a partial last one.
+        try (PuzzleCorpus corpus = PuzzleCorpus.open(file, 7L * PuzzleCorpus.RECORD_SIZE)) {
+            assertEquals(RECORDS, corpus.getSize());
+            int[][] board = new int[9][9];
+            byte[] cells = new byte[PuzzleCorpus.CELL_COUNT];
+            for (long index = RECORDS - 1; index >= 0; index--) {
+                assertEquals(flagsOf(index), corpus.read(index, board));
+                assertArrayEquals(boardOf(index), board);
+                assertEquals(flagsOf(index), corpus.read(index, cells));
+                assertEquals(boardOf(index)[4][4], cells[40]);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> corpus.flags(RECORDS));
+        }
+    }
+
+    @Test
+    void scansRangesInOrder() throws IOException {
+        Path file = this.write(RECORDS);
+
+        try (PuzzleCorpus corpus = PuzzleCorpus.open(file, 4L * PuzzleCorpus.RECORD_SIZE)) {
+            List<Long> visited = new ArrayList<>();
+            long next = corpus.scan(3, 100, (index, board, flags) -> {
+                assertArrayEquals(boardOf(index), board);
+                visited.add(index);
+                return index < 10;
+            });
+
+            assertEquals(11, next);
+            assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), visited);
+            assertEquals(RECORDS, corpus.scan(0, Long.MAX_VALUE, (index, board, flags) -> true));
+        }
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = this.directory.resolve("foreign.bin");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IOException.class, () -> PuzzleCorpus.open(foreign));
+
+        Path truncated = this.write(3);
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(truncated), PuzzleCorpus.HEADER_SIZE + 1));
+        assertThrows(IOException.class, () -> PuzzleCorpus.open(truncated));
+    }
+
+    @Test
+    void rejectedRecordsLeaveNoBytesBehind() throws IOException {
+        Path file = this.directory.resolve("rejected.corpus");
+        int[][] outOfRange = boardOf(1);
+        outOfRange[8][8] = 10;
+        int[][] shortRow = boardOf(2);
+        shortRow[5] = new int[3];
+
+        try (PuzzleCorpusWriter writer = new PuzzleCorpusWriter(file)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.append(outOfRange, PuzzleCorpus.FLAG_UNIQUE));
+            assertThrows(IllegalArgumentException.class, () -> writer.append(shortRow, PuzzleCorpus.FLAG_UNIQUE));
+            writer.append(boardOf(3), PuzzleCorpus.FLAG_SOLVED);
+        }
+
+        try (PuzzleCorpus corpus = PuzzleCorpus.open(file)) {
+            int[][] board = new int[9][9];
+            assertEquals(1, corpus.getSize());
+            assertEquals(PuzzleCorpus.FLAG_SOLVED, corpus.read(0, board));
+            assertArrayEquals(boardOf(3), board);
+        }
+    }
+
+    private Path write(int records) throws IOException {
+        Path file = this.directory.resolve("puzzles-" + records + ".corpus");
+        try (PuzzleCorpusWriter writer = new PuzzleCorpusWriter(file)) {
+            for (long index = 0; index < records; index++) {
+                writer.append(boardOf(index), flagsOf(index));
+            }
+        }
+        return file;
+    }
+
+    private static int[][] boardOf(long index) {
+        int[][] board = new int[9][9];
+        for (int cell = 0; cell < PuzzleCorpus.CELL_COUNT; cell++) {
+            board[cell / 9][cell % 9] = (int) ((cell + index) % 10);
+        }
+        return board;
+    }
+
+    private static int flagsOf(long index) {
+        return (int) (index % 3 == 0 ? PuzzleCorpus.FLAG_UNIQUE : index % 3);
+    }
+}
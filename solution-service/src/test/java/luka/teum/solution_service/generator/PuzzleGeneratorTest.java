@@ -0,0 +1,74 @@
+package luka.teum.solution_service.generator;
+
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import messaging.Solution;
+import messaging.solution.SolutionDifficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PuzzleGeneratorTest {
+
+    private final PuzzleGenerator generator = new PuzzleGenerator(new DifficultyGrader());
+
+    @ParameterizedTest
+    @EnumSource(value = SolutionDifficulty.class, names = {"EASY", "HARD", "EXTREME"})
+    void generatesUniquePuzzlesNoHarderThanTarget(SolutionDifficulty target) {
+        GeneratedPuzzle generated = this.generator.generate(target, new Random(42));
+
+        int[][] board = copyOf(generated.getPuzzle());
+        assertEquals(1, new BitmaskSudokuSolver().countSolutions(board, 2));
+        assertArrayEquals(generated.getSolution(), board);
+        assertTrue(generated.getGrade().getDifficulty().compareTo(target) <= 0);
+        assertEquals(generated.getClues(), countClues(generated.getPuzzle()));
+    }
+
+    @Test
+    void servesPuzzlesFromBackgroundPool() throws InterruptedException {
+        PuzzlePool pool = new PuzzlePool(this.generator, List.of(SolutionDifficulty.EASY), 2);
+        pool.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pool.size(SolutionDifficulty.EASY) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Optional<GeneratedPuzzle> puzzle = pool.take(SolutionDifficulty.EASY);
+
+            assertTrue(puzzle.isPresent());
+            assertEquals(SolutionDifficulty.EASY, puzzle.get().getGrade().getDifficulty());
+            assertTrue(pool.take(SolutionDifficulty.HARD).isEmpty());
+        } finally {
+            pool.stop();
+        }
+    }
+
+    private static int countClues(int[][] puzzle) {
+        int clues = 0;
+        for (int[] row : puzzle) {
+            for (int value : row) {
+                if (value != Solution.NO_SOLUTION) {
+                    clues++;
+                }
+            }
+        }
+        return clues;
+    }
+
+    private static int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,193 @@
+package luka.teum.solution_service.processing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luka.teum.solution_service.config.SolverConfig;
+import luka.teum.solution_service.corpus.PuzzleCorpus;
+import luka.teum.solution_service.corpus.PuzzleCorpusWriter;
+import luka.teum.solution_service.metrics.SolverMetrics;
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.BudgetTracker;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SudokuSolver;
+import luka.teum.solution_service.solver.bulk.BulkSudokuSolver;
+import luka.teum.solution_service.solver.bulk.CandidateKernels;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSolveProcessingTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String CELL_WITHOUT_CANDIDATES =
+            "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+    private static final String CSV_FIELD = "(?:\"(?:[^\"]|\"\")*\"|[^,\"]*)";
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        this.pool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void streamsResultsInInputOrder(boolean bulk) throws IOException {
+        BatchSolveProcessing processing = this.createProcessing(bulk);
+
+        String input = EASY + "\n\n" + DUPLICATE_IN_ROW + "\nnot a puzzle\n" + EASY.replace('0', '.') + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = processing.solve(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), output);
+
+        assertEquals(4, count);
+        assertArrayEquals(new String[]{
+                "0,SOLVED,UNIQUE," + EASY_SOLUTION,
+                "1,INVALID_INPUT,NONE,Digit 5 repeats in row 1",
+                "2,INVALID_INPUT,NONE,Puzzle must be 81 digits or dots",
+                "3,SOLVED,UNIQUE," + EASY_SOLUTION
+        }, output.toString(StandardCharsets.US_ASCII).split("\n"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void quotesReasonsThatContainTheSeparator(boolean bulk) throws IOException {
+        BatchSolveProcessing processing = this.createProcessing(bulk);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        processing.solve(new ByteArrayInputStream((CELL_WITHOUT_CANDIDATES + "\n").getBytes(StandardCharsets.US_ASCII)),
+                output);
+        String line = output.toString(StandardCharsets.US_ASCII).trim();
+
+        assertEquals("0,INVALID_INPUT,NONE,\"Cell (1, 9) has no candidates\"", line);
+        assertTrue(line.matches(CSV_FIELD + "(?:," + CSV_FIELD + "){3}"), line);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void solvesCorpusRange(boolean bulk) throws IOException {
+        Path file = this.directory.resolve("batch.corpus");
+        try (PuzzleCorpusWriter writer = new PuzzleCorpusWriter(file)) {
+            writer.append(parse(DUPLICATE_IN_ROW), 0);
+            writer.append(parse(EASY), PuzzleCorpus.FLAG_UNIQUE);
+            writer.append(parse(EASY), PuzzleCorpus.FLAG_INVALID);
+            writer.append(parse(EASY), 0);
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count;
+        try (PuzzleCorpus corpus = PuzzleCorpus.open(file)) {
+            count = this.createProcessing(bulk).solve(corpus, 0, 10, output);
+        }
+
+        assertEquals(4, count);
+        assertArrayEquals(new String[]{
+                "0,INVALID_INPUT,NONE,Digit 5 repeats in row 1",
+                "1,SOLVED,UNIQUE," + EASY_SOLUTION,
+                "2,INVALID_INPUT,NONE,Corpus record is flagged invalid",
+                "3,SOLVED,UNIQUE," + EASY_SOLUTION
+        }, output.toString(StandardCharsets.US_ASCII).split("\n"));
+    }
+
+    @Test
+    void stopsRunningChunksWhenTheClientGoesAway() throws IOException {
+        Path file = this.directory.resolve("aborted.corpus");
+        int[][] slow = parse(EASY);
+        slow[0][0] = 4;
+        try (PuzzleCorpusWriter writer = new PuzzleCorpusWriter(file)) {
+            for (int i = 0; i < 256; i++) {
+                writer.append(parse(EASY), 0);
+            }
+            for (int i = 0; i < 256; i++) {
+                writer.append(slow, 0);
+            }
+        }
+        // The first chunk finishes only once the second is running, then its write fails like a dropped client.
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        AtomicInteger slowSolved = new AtomicInteger();
+        SudokuSolver delegate = new BitmaskSudokuSolver();
+        SudokuSolver solver = new SudokuSolver() {
+            @Override
+            public boolean solve(int[][] board, BudgetTracker tracker) {
+                return delegate.solve(board, tracker);
+            }
+
+            @Override
+            public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+                try {
+                    if (board[0][0] == 4) {
+                        secondStarted.countDown();
+                        slowSolved.incrementAndGet();
+                        Thread.sleep(2);
+                    } else {
+                        secondStarted.await(5, TimeUnit.SECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return delegate.countSolutions(board, limit, tracker);
+            }
+        };
+        SolverConfig config = new SolverConfig();
+        config.getBatch().setWindow(2);
+        BatchSolveProcessing processing = new BatchSolveProcessing(solver,
+                new BulkSudokuSolver(CandidateKernels.create(true), solver, 3), SolveBudget.UNLIMITED,
+                config, this.pool, new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Client went away");
+            }
+        };
+
+        try (PuzzleCorpus corpus = PuzzleCorpus.open(file)) {
+            assertThrows(IOException.class, () -> processing.solve(corpus, 0, 512, disconnected));
+            assertTrue(this.pool.awaitQuiescence(10, TimeUnit.SECONDS));
+        }
+
+        assertTrue(slowSolved.get() < 256, "solved " + slowSolved.get() + " boards of the aborted chunk");
+    }
+
+    private BatchSolveProcessing createProcessing(boolean bulk) {
+        SolverConfig config = new SolverConfig();
+        config.getBatch().setWindow(2);
+        config.getBatch().setBulk(bulk);
+        config.getBatch().setSlabSize(3);
+        SudokuSolver solver = new BitmaskSudokuSolver();
+        return new BatchSolveProcessing(solver,
+                new BulkSudokuSolver(CandidateKernels.create(true), solver, 3), SolveBudget.UNLIMITED,
+                config, this.pool, new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+    }
+
+    private static int[][] parse(String puzzle) {
+        int[][] board = new int[9][9];
+        for (int cell = 0; cell < puzzle.length(); cell++) {
+            board[cell / 9][cell % 9] = puzzle.charAt(cell) - '0';
+        }
+        return board;
+    }
+}
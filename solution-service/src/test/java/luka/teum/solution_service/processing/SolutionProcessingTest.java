@@ -0,0 +1,188 @@
+package luka.teum.solution_service.processing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luka.teum.solution_service.config.SolverConfig;
+import luka.teum.solution_service.metrics.SolverMetrics;
+import luka.teum.solution_service.repair.GridRepairer;
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.DifficultyGrader;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import messaging.Solution;
+import messaging.TelegramInfo;
+import messaging.solution.SolutionDifficulty;
+import messaging.solution.SolutionsOneInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolutionProcessingTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SolutionProcessing processing = new SolutionProcessing(
+            new GridRepairer(new BitmaskSudokuSolver(), SolveBudget.UNLIMITED, 3, 12, 3, 64),
+            new DifficultyGrader(),
+            new SolverConfig(),
+            this.executor,
+            new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void answersOnFirstSolvedGridAndIgnoresTheRest() {
+        Optional<SolveResult> first = this.processing.solveIncrementally(message(DUPLICATE_IN_ROW, 0, 3));
+        Optional<SolveResult> second = this.processing.solveIncrementally(message(EASY, 1, 3));
+        Optional<SolveResult> third = this.processing.solveIncrementally(message(EASY, 2, 3));
+
+        assertTrue(first.isEmpty());
+        assertEquals(SolveStatus.SOLVED, second.orElseThrow().getStatus());
+        assertEquals(SolutionDifficulty.EASY, second.get().getGrade().getDifficulty());
+        assertTrue(third.isEmpty());
+    }
+
+    @Test
+    void answersWithBestFailureAfterLastGrid() {
+        Optional<SolveResult> first = this.processing.solveIncrementally(message(DUPLICATE_IN_ROW, 0, 2));
+        Optional<SolveResult> second = this.processing.solveIncrementally(
+                SolutionsOneInfo.builder().solution(new Solution()).solutionId(1).countSolution(2)
+                        .telegramInfo(telegramInfo()).build());
+
+        assertTrue(first.isEmpty());
+        assertEquals(SolveStatus.INVALID_INPUT, second.orElseThrow().getStatus());
+    }
+
+    @Test
+    void rejectsMalformedGridsEvenWithProbabilities() {
+        float[][][] probabilities = new float[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE + 1];
+        int[][] missingRow = new int[Solution.SUDOKU_SIZE][];
+
+        SolveResult result = this.processing.solveFirst(List.of(
+                new Solution(null, probabilities), new Solution(missingRow, probabilities)));
+
+        assertEquals(SolveStatus.INVALID_INPUT, result.getStatus());
+    }
+
+    @Test
+    void countsRejectedCandidatesAsFailedInsteadOfSolvingThemInline() throws InterruptedException {
+        // The only worker waits on the latch and the only queue slot is taken, so every candidate is rejected.
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            saturated.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            saturated.execute(() -> { });
+            SolutionProcessing processing = new SolutionProcessing(
+                    new GridRepairer(new BitmaskSudokuSolver(), SolveBudget.UNLIMITED, 3, 12, 3, 64),
+                    new DifficultyGrader(), new SolverConfig(), saturated,
+                    new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+
+            SolveResult result = processing.solveFirst(List.of(message(EASY, 0, 1).getSolution()));
+
+            assertEquals(SolveStatus.UNSOLVABLE, result.getStatus());
+        } finally {
+            release.countDown();
+            saturated.shutdownNow();
+        }
+    }
+
+    @Test
+    void answersSessionsThatExpireUnfinished() throws InterruptedException {
+        SolverConfig solverConfig = new SolverConfig();
+        solverConfig.getStream().setSessionTtlMs(1);
+        SolutionProcessing expiring = new SolutionProcessing(
+                new GridRepairer(new BitmaskSudokuSolver(), SolveBudget.UNLIMITED, 3, 12, 3, 64),
+                new DifficultyGrader(), solverConfig, this.executor,
+                new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+
+        assertTrue(expiring.solveIncrementally(message(DUPLICATE_IN_ROW, 0, 3)).isEmpty());
+        Thread.sleep(10);
+        List<SolutionProcessing.ExpiredSession> expired = expiring.expireSessions();
+
+        assertEquals(1, expired.size());
+        assertEquals(1, expired.get(0).getReceived());
+        assertEquals(3, expired.get(0).getExpected());
+        assertEquals(telegramInfo(), expired.get(0).getTelegramInfo());
+        assertEquals(SolveStatus.INVALID_INPUT, expired.get(0).getResult().getStatus());
+        assertTrue(expiring.expireSessions().isEmpty());
+    }
+
+    @Test
+    void dropsGridsThatArriveAfterTheSessionClosed() throws InterruptedException {
+        SolverConfig solverConfig = new SolverConfig();
+        solverConfig.getStream().setSessionTtlMs(50);
+        SolutionProcessing expiring = new SolutionProcessing(
+                new GridRepairer(new BitmaskSudokuSolver(), SolveBudget.UNLIMITED, 3, 12, 3, 64),
+                new DifficultyGrader(), solverConfig, this.executor,
+                new SolverMetrics(new SimpleMeterRegistry(), SolveBudget.UNLIMITED));
+
+        assertTrue(expiring.solveIncrementally(message(DUPLICATE_IN_ROW, 0, 2)).isEmpty());
+        Thread.sleep(100);
+        assertEquals(1, expiring.expireSessions().size());
+
+        assertTrue(expiring.solveIncrementally(message(EASY, 1, 2)).isEmpty());
+        assertTrue(expiring.solveIncrementally(message(EASY, 1, 2)).isEmpty());
+        assertTrue(expiring.expireSessions().isEmpty());
+    }
+
+    @Test
+    void dropsRedeliveredGridsOfAnAnsweredSession() {
+        assertTrue(this.processing.solveIncrementally(message(EASY, 0, 1)).isPresent());
+
+        assertTrue(this.processing.solveIncrementally(message(EASY, 0, 1)).isEmpty());
+    }
+
+    @Test
+    void rejectsMultiGridMessagesWithoutTelegramInfo() {
+        SolutionsOneInfo untracked = SolutionsOneInfo.builder()
+                .solution(message(EASY, 0, 2).getSolution()).solutionId(0).countSolution(2).build();
+        SolutionsOneInfo single = SolutionsOneInfo.builder()
+                .solution(message(EASY, 0, 1).getSolution()).solutionId(0).countSolution(1).build();
+
+        assertEquals(SolveStatus.INVALID_INPUT, this.processing.solveIncrementally(untracked).orElseThrow().getStatus());
+        assertEquals(SolveStatus.SOLVED, this.processing.solveIncrementally(single).orElseThrow().getStatus());
+        assertTrue(this.processing.expireSessions().isEmpty());
+    }
+
+    private static SolutionsOneInfo message(String grid, int solutionId, int countSolution) {
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < grid.length(); i++) {
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] = grid.charAt(i) - '0';
+        }
+        return SolutionsOneInfo.builder()
+                .solution(new Solution(digits))
+                .solutionId(solutionId)
+                .countSolution(countSolution)
+                .telegramInfo(telegramInfo())
+                .build();
+    }
+
+    private static TelegramInfo telegramInfo() {
+        return TelegramInfo.builder().userId(1L).chartId(1L).messageId(10L).build();
+    }
+}
@@ -0,0 +1,90 @@
+package luka.teum.solution_service.repair;
+
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridRepairerTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String MISREAD =
+            "008020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    private final GridRepairer repairer =
+            new GridRepairer(new BitmaskSudokuSolver(), SolveBudget.UNLIMITED, 3, 12, 3, 64);
+
+    @Test
+    void repairsLowConfidenceDigit() {
+        float[][][] probabilities = confident(parse(MISREAD));
+        probabilities[0][2] = new float[Solution.SUDOKU_SIZE + 1];
+        probabilities[0][2][8] = 0.55f;
+        probabilities[0][2][3] = 0.40f;
+        probabilities[0][2][0] = 0.05f;
+
+        SolveResult result = this.repairer.solve(new Solution(parse(MISREAD), probabilities), SolveMode.UNIQUE);
+
+        assertEquals(SolveStatus.SOLVED, result.getStatus());
+        assertEquals(SolutionUniqueness.UNIQUE, result.getUniqueness());
+        assertEquals(1, result.getRepairedCells());
+        assertArrayEquals(parse(EASY_SOLUTION), result.getSolution().getDigits());
+    }
+
+    @Test
+    void reportsEffortOfEveryAttempt() {
+        float[][][] probabilities = confident(parse(MISREAD));
+        probabilities[0][2] = new float[Solution.SUDOKU_SIZE + 1];
+        probabilities[0][2][8] = 0.50f;
+        probabilities[0][2][4] = 0.30f;
+        probabilities[0][2][3] = 0.20f;
+
+        SolveResult result = this.repairer.solve(new Solution(parse(MISREAD), probabilities), SolveMode.UNIQUE);
+        int[][] repaired = parse(MISREAD);
+        repaired[0][2] = 3;
+        SolveResult last = new BitmaskSudokuSolver().trySolve(new Solution(repaired), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertEquals(SolveStatus.SOLVED, result.getStatus());
+        assertArrayEquals(parse(EASY_SOLUTION), result.getSolution().getDigits());
+        assertTrue(result.getNodes() > last.getNodes());
+    }
+
+    @Test
+    void keepsGridWithoutProbabilities() {
+        SolveResult misread = this.repairer.solve(new Solution(parse(MISREAD)), SolveMode.UNIQUE);
+        SolveResult easy = this.repairer.solve(new Solution(parse(EASY)), SolveMode.UNIQUE);
+
+        assertEquals(SolveStatus.INVALID_INPUT, misread.getStatus());
+        assertEquals(0, easy.getRepairedCells());
+        assertArrayEquals(parse(EASY_SOLUTION), easy.getSolution().getDigits());
+    }
+
+    private static float[][][] confident(int[][] digits) {
+        float[][][] probabilities = new float[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE + 1];
+        for (int i = 0; i < Solution.SUDOKU_SIZE; i++) {
+            for (int j = 0; j < Solution.SUDOKU_SIZE; j++) {
+                probabilities[i][j][digits[i][j]] = 0.9f;
+                probabilities[i][j][(digits[i][j] + 1) % (Solution.SUDOKU_SIZE + 1)] = 0.1f;
+            }
+        }
+        return probabilities;
+    }
+
+    private static int[][] parse(String line) {
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < line.length(); i++) {
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] = line.charAt(i) - '0';
+        }
+        return digits;
+    }
+}
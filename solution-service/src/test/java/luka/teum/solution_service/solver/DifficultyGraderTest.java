@@ -0,0 +1,56 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+import messaging.solution.SolutionDifficulty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DifficultyGraderTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String X_WING =
+            "100000569492056108056109240009640801064010000218035604040500016905061402621000005";
+    private static final String HARD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    private final DifficultyGrader grader = new DifficultyGrader();
+
+    @Test
+    void gradesSinglesOnlyPuzzleAsEasy() {
+        DifficultyGrade grade = this.grader.grade(SudokuSolverTest.parse(EASY));
+
+        assertTrue(grade.isSolvedByLogic());
+        assertEquals(SolutionDifficulty.EASY, grade.getDifficulty());
+        assertEquals(Technique.HIDDEN_SINGLE, grade.getHardestTechnique());
+        assertEquals(EASY.replace("0", "").length(), Solution.CELL_COUNT - grade.getStepCount());
+        assertTrue(grade.getStepLog().startsWith("HS:r"));
+    }
+
+    @Test
+    void usesFishWhenSinglesStall() {
+        DifficultyGrade grade = this.grader.grade(SudokuSolverTest.parse(X_WING));
+
+        assertTrue(grade.isSolvedByLogic());
+        assertTrue(grade.getHardestTechnique().getWeight() >= Technique.X_WING.getWeight());
+        assertTrue(grade.getStepLog().contains("XW:"));
+    }
+
+    @Test
+    void gradesPuzzleBeyondTechniquesAsExtreme() {
+        DifficultyGrade grade = this.grader.grade(SudokuSolverTest.parse(HARD));
+
+        assertFalse(grade.isSolvedByLogic());
+        assertEquals(SolutionDifficulty.EXTREME, grade.getDifficulty());
+    }
+
+    @Test
+    void gradesContradictionAsUnknown() {
+        assertEquals(SolutionDifficulty.UNKNOWN, this.grader.grade(SudokuSolverTest.parse(DUPLICATE_IN_ROW)).getDifficulty());
+    }
+}
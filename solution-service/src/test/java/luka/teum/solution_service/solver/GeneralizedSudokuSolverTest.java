@@ -0,0 +1,87 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneralizedSudokuSolverTest {
+
+    private final SudokuSolver solver = new GeneralizedSudokuSolver();
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5})
+    void solvesSquareGridsOfEverySize(int boxSize) {
+        int[][] puzzle = puzzle(boxSize, 0.55, boxSize);
+
+        SolveResult result = this.solver.trySolve(new Solution(copyOf(puzzle)), SolveBudget.UNLIMITED);
+
+        assertEquals(SolveStatus.SOLVED, result.getStatus());
+        assertValid(boxSize, puzzle, result.getSolution().getDigits());
+    }
+
+    @Test
+    void detectsMultipleSolutionsOnLargeGrid() {
+        SolveResult result = this.solver.trySolve(new Solution(new int[16][16]), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertTrue(result.isSolved());
+        assertEquals(SolutionUniqueness.MULTIPLE, result.getUniqueness());
+    }
+
+    @Test
+    void fixedSizeSolversRejectOtherSizes() {
+        SolveResult result = new BitmaskSudokuSolver().trySolve(new Solution(puzzle(4, 0.5, 1)), SolveBudget.UNLIMITED);
+
+        assertEquals(SolveStatus.INVALID_INPUT, result.getStatus());
+        assertEquals("Grid size 16 is not supported by this solver", result.getReason());
+    }
+
+    private static int[][] puzzle(int boxSize, double emptyShare, long seed) {
+        int size = boxSize * boxSize;
+        Random random = new Random(seed);
+        int[][] digits = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (random.nextDouble() >= emptyShare) {
+                    digits[row][column] = (boxSize * (row % boxSize) + row / boxSize + column) % size + 1;
+                }
+            }
+        }
+        return digits;
+    }
+
+    private static int[][] copyOf(int[][] digits) {
+        int[][] copy = new int[digits.length][];
+        for (int row = 0; row < digits.length; row++) {
+            copy[row] = digits[row].clone();
+        }
+        return copy;
+    }
+
+    private static void assertValid(int boxSize, int[][] puzzle, int[][] answer) {
+        int size = boxSize * boxSize;
+        long all = (1L << size) - 1;
+        for (int i = 0; i < size; i++) {
+            long rowMask = 0;
+            long columnMask = 0;
+            long boxMask = 0;
+            for (int j = 0; j < size; j++) {
+                if (puzzle[i][j] != Solution.NO_SOLUTION) {
+                    assertEquals(puzzle[i][j], answer[i][j]);
+                }
+                rowMask |= 1L << (answer[i][j] - 1);
+                columnMask |= 1L << (answer[j][i] - 1);
+                boxMask |= 1L << (answer[(i / boxSize) * boxSize + j / boxSize][(i % boxSize) * boxSize + j % boxSize] - 1);
+            }
+            assertEquals(all, rowMask);
+            assertEquals(all, columnMask);
+            assertEquals(all, boxMask);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ScratchPoolTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String HARD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String HARD_SOLUTION =
+            "812753649943682175675491283154237896369845721287169534521974368438526917796318452";
+
+    @Test
+    void resetsOnAcquireAndHandsOutCopiesWhenReentered() {
+        ScratchPool<Counter> pool = new ScratchPool<>(Counter::new);
+
+        Counter first;
+        try (Counter counter = pool.acquire()) {
+            first = counter;
+            counter.value = 7;
+            try (Counter nested = pool.acquire()) {
+                assertNotSame(counter, nested);
+                assertEquals(0, nested.value);
+            }
+        }
+        try (Counter counter = pool.acquire()) {
+            assertSame(first, counter);
+            assertEquals(0, counter.value);
+            assertEquals(2, counter.resets);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void sharesOneSolverAcrossThreads(SolverType type) throws Exception {
+        SudokuSolver solver = type.create();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String puzzle = i % 2 == 0 ? EASY : HARD;
+                String expected = i % 2 == 0 ? EASY_SOLUTION : HARD_SOLUTION;
+                futures.add(executor.submit(() -> {
+                    SolveResult result = solver.trySolve(new Solution(parse(puzzle)), SolveBudget.UNLIMITED,
+                            SolveMode.UNIQUE);
+                    assertArrayEquals(parse(expected), result.getSolution().getDigits());
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int[][] parse(String puzzle) {
+        int[][] board = new int[9][9];
+        for (int cell = 0; cell < puzzle.length(); cell++) {
+            board[cell / 9][cell % 9] = puzzle.charAt(cell) - '0';
+        }
+        return board;
+    }
+
+    private static final class Counter extends Scratch {
+
+        private int value;
+        private int resets;
+
+        @Override
+        protected void reset() {
+            this.value = 0;
+            this.resets++;
+        }
+    }
+}
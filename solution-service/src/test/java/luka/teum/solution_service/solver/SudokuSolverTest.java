@@ -0,0 +1,153 @@
+package luka.teum.solution_service.solver;
+
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SudokuSolverTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String HARD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String CELL_WITHOUT_CANDIDATES =
+            "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void solvesEasyPuzzle(SolverType type) {
+        Solution solution = type.create().solve(new Solution(parse(EASY)));
+
+        assertTrue(solution.isSolved());
+        assertArrayEquals(parse(EASY_SOLUTION), solution.getDigits());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void solvesHardPuzzle(SolverType type) {
+        int[][] puzzle = parse(HARD);
+        Solution solution = type.create().solve(new Solution(parse(HARD)));
+
+        assertTrue(solution.isSolved());
+        assertValid(puzzle, solution.getDigits());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void rejectsContradictoryPuzzle(SolverType type) {
+        Solution solution = type.create().solve(new Solution(parse(DUPLICATE_IN_ROW)));
+
+        assertFalse(solution.isSolved());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void stopsWhenNodeBudgetIsExhausted(SolverType type) {
+        SolveResult result = type.create().trySolve(new Solution(parse(HARD)), new SolveBudget(1, SolveBudget.NO_LIMIT));
+
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, result.getStatus());
+        assertFalse(result.getSolution().isSolved());
+        assertEquals(2, result.getNodes());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void reportsSearchStatistics(SolverType type) {
+        SolveResult result = type.create().trySolve(new Solution(parse(HARD)), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertEquals(SolutionUniqueness.UNIQUE, result.getUniqueness());
+        assertTrue(result.getBacktracks() > 0);
+        assertTrue(result.getBacktracks() < result.getNodes());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void leavesInputGridUntouched(SolverType type) {
+        Solution puzzle = new Solution(parse(EASY));
+
+        SolveResult result = type.create().trySolve(puzzle, SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertArrayEquals(parse(EASY), puzzle.getDigits());
+        assertArrayEquals(parse(EASY), result.getPuzzle());
+        assertArrayEquals(parse(EASY_SOLUTION), result.getSolution().getDigits());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void reportsInvalidInputBeforeSearching(SolverType type) {
+        SudokuSolver solver = type.create();
+
+        SolveResult duplicate = solver.trySolve(new Solution(parse(DUPLICATE_IN_ROW)), SolveBudget.UNLIMITED);
+        SolveResult blocked = solver.trySolve(new Solution(parse(CELL_WITHOUT_CANDIDATES)), SolveBudget.UNLIMITED);
+
+        assertEquals(SolveStatus.INVALID_INPUT, duplicate.getStatus());
+        assertEquals("Digit 5 repeats in row 1", duplicate.getReason());
+        assertEquals(SolveStatus.INVALID_INPUT, blocked.getStatus());
+        assertEquals("Cell (1, 9) has no candidates", blocked.getReason());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void countsSolutionsUpToLimit(SolverType type) {
+        SudokuSolver solver = type.create();
+        int[][] easy = parse(EASY);
+
+        assertEquals(1, solver.countSolutions(easy, 2));
+        assertArrayEquals(parse(EASY_SOLUTION), easy);
+        assertEquals(2, solver.countSolutions(new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE], 2));
+        assertEquals(0, solver.countSolutions(parse(DUPLICATE_IN_ROW), 2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    void reportsUniquenessInUniqueMode(SolverType type) {
+        SudokuSolver solver = type.create();
+
+        SolveResult unique = solver.trySolve(new Solution(parse(EASY)), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+        SolveResult multiple = solver.trySolve(new Solution(parse(EASY.substring(0, 40) + "0".repeat(41))),
+                SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertEquals(SolutionUniqueness.UNIQUE, unique.getUniqueness());
+        assertTrue(multiple.isSolved());
+        assertEquals(SolutionUniqueness.MULTIPLE, multiple.getUniqueness());
+    }
+
+    static int[][] parse(String line) {
+        int[][] digits = new int[Solution.SUDOKU_SIZE][Solution.SUDOKU_SIZE];
+        for (int i = 0; i < line.length(); i++) {
+            char symbol = line.charAt(i);
+            digits[i / Solution.SUDOKU_SIZE][i % Solution.SUDOKU_SIZE] =
+                    Character.isDigit(symbol) ? symbol - '0' : Solution.NO_SOLUTION;
+        }
+        return digits;
+    }
+
+    static void assertValid(int[][] puzzle, int[][] answer) {
+        for (int i = 0; i < Solution.SUDOKU_SIZE; i++) {
+            int rowMask = 0;
+            int columnMask = 0;
+            int boxMask = 0;
+            for (int j = 0; j < Solution.SUDOKU_SIZE; j++) {
+                if (puzzle[i][j] != Solution.NO_SOLUTION) {
+                    assertEquals(puzzle[i][j], answer[i][j]);
+                }
+                rowMask |= 1 << answer[i][j];
+                columnMask |= 1 << answer[j][i];
+                boxMask |= 1 << answer[(i / 3) * 3 + j / 3][(i % 3) * 3 + j % 3];
+            }
+            assertEquals(0x3FE, rowMask);
+            assertEquals(0x3FE, columnMask);
+            assertEquals(0x3FE, boxMask);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package luka.teum.solution_service.solver.bulk;
+
+import luka.teum.solution_service.cache.CachingSudokuSolver;
+import luka.teum.solution_service.cache.SolutionCache;
+import luka.teum.solution_service.solver.BitmaskSudokuSolver;
+import luka.teum.solution_service.solver.BudgetTracker;
+import luka.teum.solution_service.solver.SolveBudget;
+import luka.teum.solution_service.solver.SolveMode;
+import luka.teum.solution_service.solver.SolveResult;
+import luka.teum.solution_service.solver.SolveStatus;
+import luka.teum.solution_service.solver.SudokuSolver;
+import messaging.Solution;
+import messaging.solution.SolutionUniqueness;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BulkSudokuSolverTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    private static final String HARD =
+            "000000010400000000020000000000050407008000300001090000300400200050100000000806000";
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final SudokuSolver delegate = new BitmaskSudokuSolver() {
+        @Override
+        public int countSolutions(int[][] board, int limit, BudgetTracker tracker) {
+            delegateCalls.incrementAndGet();
+            return super.countSolutions(board, limit, tracker);
+        }
+    };
+
+    @Test
+    void answersSinglesOnlyPuzzlesWithoutSearching() {
+        BulkSudokuSolver bulk = new BulkSudokuSolver(new ScalarCandidateKernel(), this.delegate, 4);
+
+        List<SolveResult> results = bulk.solveAll(List.<int[][]>of(parse(EASY)), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertEquals(0, this.delegateCalls.get());
+        assertEquals(SolveStatus.SOLVED, results.get(0).getStatus());
+        assertEquals(SolutionUniqueness.UNIQUE, results.get(0).getUniqueness());
+        assertArrayEquals(parse(EASY_SOLUTION), results.get(0).getSolution().getDigits());
+        assertArrayEquals(parse(EASY), results.get(0).getPuzzle());
+    }
+
+    @Test
+    void searchesFromOriginalGivensSoCachedPuzzlesHit() {
+        SudokuSolver solver = new CachingSudokuSolver(this.delegate, new SolutionCache(16));
+        BulkSudokuSolver bulk = new BulkSudokuSolver(new ScalarCandidateKernel(), solver, 4);
+        SolveResult single = solver.trySolve(new Solution(parse(HARD)), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+        int searches = this.delegateCalls.get();
+
+        List<SolveResult> results = bulk.solveAll(List.<int[][]>of(parse(HARD)), SolveBudget.UNLIMITED, SolveMode.UNIQUE);
+
+        assertEquals(searches, this.delegateCalls.get());
+        assertEquals(SolveStatus.SOLVED, results.get(0).getStatus());
+        assertArrayEquals(single.getSolution().getDigits(), results.get(0).getSolution().getDigits());
+        assertArrayEquals(parse(HARD), results.get(0).getPuzzle());
+    }
+
+    private static int[][] parse(String puzzle) {
+        int[][] board = new int[BoardSlab.BOARD_SIZE][BoardSlab.BOARD_SIZE];
+        for (int cell = 0; cell < puzzle.length(); cell++) {
+            board[cell / BoardSlab.BOARD_SIZE][cell % BoardSlab.BOARD_SIZE] = puzzle.charAt(cell) - '0';
+        }
+        return board;
+    }
+}
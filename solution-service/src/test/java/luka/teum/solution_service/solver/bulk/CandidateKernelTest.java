@@ -0,0 +1,73 @@
+package luka.teum.solution_service.solver.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateKernelTest {
+
+    private static final String EASY =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String DUPLICATE_IN_ROW =
+            "553020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        assertTrue(CandidateKernels.isVectorAvailable());
+        BoardSlab scalar = slab(new Random(7));
+        BoardSlab vector = slab(new Random(7));
+
+        ScalarCandidateKernel scalarKernel = new ScalarCandidateKernel();
+        VectorCandidateKernel vectorKernel = new VectorCandidateKernel();
+        do {
+            scalarKernel.computeCandidates(scalar);
+            vectorKernel.computeCandidates(vector);
+            assertArrayEquals(scalar.getCandidates(), vector.getCandidates());
+            assertArrayEquals(scalar.getFailures(), vector.getFailures());
+        } while (scalarKernel.fillSingles(scalar) & vectorKernel.fillSingles(vector));
+
+        assertArrayEquals(scalar.getValues(), vector.getValues());
+    }
+
+    @Test
+    void flagsBoardsWithRepeatedDigits() {
+        BoardSlab slab = new BoardSlab(2);
+        slab.add(parse(EASY));
+        slab.add(parse(DUPLICATE_IN_ROW));
+
+        new ScalarCandidateKernel().computeCandidates(slab);
+
+        assertFalse(slab.isFailed(0));
+        assertTrue(slab.isFailed(1));
+    }
+
+    private static BoardSlab slab(Random random) {
+        BoardSlab slab = new BoardSlab(100);
+        int[][] easy = parse(EASY);
+        while (slab.getSize() < 100) {
+            int[][] board = new int[BoardSlab.BOARD_SIZE][];
+            for (int row = 0; row < BoardSlab.BOARD_SIZE; row++) {
+                board[row] = easy[row].clone();
+                for (int column = 0; column < BoardSlab.BOARD_SIZE; column++) {
+                    if (random.nextInt(4) == 0) {
+                        board[row][column] = random.nextInt(BoardSlab.BOARD_SIZE + 1);
+                    }
+                }
+            }
+            slab.add(board);
+        }
+        return slab;
+    }
+
+    private static int[][] parse(String line) {
+        int[][] digits = new int[BoardSlab.BOARD_SIZE][BoardSlab.BOARD_SIZE];
+        for (int i = 0; i < line.length(); i++) {
+            digits[i / BoardSlab.BOARD_SIZE][i % BoardSlab.BOARD_SIZE] = line.charAt(i) - '0';
+        }
+        return digits;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import messaging.Solution;
 import messaging.TelegramInfo;
+import messaging.solution.SolutionDifficulty;
+import messaging.solution.SolutionUniqueness;
 import messaging.solution.SolutionsOneInfo;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -163,6 +165,20 @@ public class KafkaConsumerService {
             stats.append("• Solution ID: ").append(solutionInfo.getSolutionId()).append("\n");
         }
 
+        if (solutionInfo.getUniqueness() == SolutionUniqueness.UNIQUE) {
+            stats.append("• Solution is unique\n");
+        } else if (solutionInfo.getUniqueness() == SolutionUniqueness.MULTIPLE) {
+            stats.append("• ⚠️ The grid has several solutions, some digits may have been misread\n");
+        }
+
+        if (solutionInfo.getRepairedCells() != null && solutionInfo.getRepairedCells() > 0) {
+            stats.append("• Corrected misread digits: ").append(solutionInfo.getRepairedCells()).append("\n");
+        }
+
+        if (solutionInfo.getDifficulty() != null && solutionInfo.getDifficulty() != SolutionDifficulty.UNKNOWN) {
+            stats.append("• Difficulty: ").append(solutionInfo.getDifficulty().name().toLowerCase()).append("\n");
+        }
+
         return stats.toString();
     }
 